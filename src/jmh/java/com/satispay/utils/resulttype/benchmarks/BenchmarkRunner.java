@@ -0,0 +1,35 @@
+package com.satispay.utils.resulttype.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the JMH benchmarks of this library.
+ *
+ * <p>Accepts the same command line as {@code org.openjdk.jmh.Main}, and always attaches the
+ * GC profiler so every run reports allocation ({@code gc.alloc.rate.norm}) next to throughput.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * mvn -P jmh test-compile exec:exec -Djmh.args="ResultBenchmark -f 1 -wi 3 -i 5"
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
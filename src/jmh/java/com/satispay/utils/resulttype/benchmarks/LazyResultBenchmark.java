@@ -0,0 +1,98 @@
+package com.satispay.utils.resulttype.benchmarks;
+
+import com.satispay.utils.resulttype.LazyResult;
+import com.satispay.utils.resulttype.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and allocation of {@code LazyResult.create(...).map(...).evaluate()} at different
+ * chain depths, on both the success and the failure path.
+ *
+ * <p>The {@code prebuilt*} benchmarks evaluate a pipeline built once in setup, the
+ * {@code buildAndEvaluate*} benchmarks pay for assembling the pipeline on every invocation.
+ * The failing supplier throws a preallocated exception, so the failure numbers measure the
+ * library overhead rather than stack trace capture.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazyResultBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+    private static final Function<Exception, String> ERROR_MAPPER = Exception::getMessage;
+
+    @Param({"1", "5", "20"})
+    public int depth;
+
+    private Supplier<Integer> successSupplier;
+    private Supplier<Integer> failureSupplier;
+    private LazyResult<Integer, String> successPipeline;
+    private LazyResult<Integer, String> failurePipeline;
+    private LazyResult<Integer, String> constantPipeline;
+
+    @Setup
+    public void setUp() {
+        Integer value = 42;
+        IllegalStateException notFound = new IllegalStateException("not found");
+        successSupplier = () -> value;
+        failureSupplier = () -> {
+            throw notFound;
+        };
+        successPipeline = build(successSupplier);
+        failurePipeline = build(failureSupplier);
+        constantPipeline = LazyResult.of(Result.<Integer, String>success(value), ERROR_MAPPER);
+        for (int i = 0; i < depth; i++) {
+            constantPipeline = constantPipeline.map(INCREMENT);
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> prebuiltSuccess() {
+        return successPipeline.evaluate();
+    }
+
+    @Benchmark
+    public Result<Integer, String> prebuiltFailure() {
+        return failurePipeline.evaluate();
+    }
+
+    @Benchmark
+    public Result<Integer, String> prebuiltConstant() {
+        return constantPipeline.evaluate();
+    }
+
+    @Benchmark
+    public Result<Integer, String> buildAndEvaluateSuccess() {
+        return build(successSupplier).evaluate();
+    }
+
+    @Benchmark
+    public Result<Integer, String> buildAndEvaluateFailure() {
+        return build(failureSupplier).evaluate();
+    }
+
+    private LazyResult<Integer, String> build(Supplier<Integer> supplier) {
+        LazyResult<Integer, String> pipeline = LazyResult.create(supplier, ERROR_MAPPER);
+        for (int i = 0; i < depth; i++) {
+            pipeline = pipeline.map(INCREMENT);
+        }
+        return pipeline;
+    }
+}
@@ -0,0 +1,181 @@
+package com.satispay.utils.resulttype.benchmarks;
+
+import com.satispay.utils.resulttype.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Throughput and allocation of the {@link Result} combinators, on both the success and the
+ * failure path, with {@link Optional} and plain exceptions as baselines.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+    private static final Function<Integer, Result<Integer, String>> INCREMENT_RESULT = i -> Result.success(i + 1);
+    private static final Function<String, String> DECORATE = e -> "wrapped: " + e;
+    private static final Function<String, Integer> RECOVER = String::length;
+    private static final BiFunction<Integer, Integer, Integer> SUM = Integer::sum;
+
+    private Integer value;
+    private String error;
+    private Result<Integer, String> success;
+    private Result<Integer, String> failure;
+    private Optional<Integer> present;
+    private Optional<Integer> empty;
+
+    @Setup
+    public void setUp() {
+        value = 42;
+        error = "not found";
+        success = Result.success(value);
+        failure = Result.failure(error);
+        present = Optional.of(value);
+        empty = Optional.empty();
+    }
+
+    @Benchmark
+    public Result<Integer, String> successFactory() {
+        return Result.success(value);
+    }
+
+    @Benchmark
+    public Result<Integer, String> failureFactory() {
+        return Result.failure(error);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapSuccess() {
+        return success.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapFailure() {
+        return failure.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapSuccess() {
+        return success.flatMap(INCREMENT_RESULT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapFailure() {
+        return failure.flatMap(INCREMENT_RESULT);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapErrorSuccess() {
+        return success.mapError(DECORATE);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapErrorFailure() {
+        return failure.mapError(DECORATE);
+    }
+
+    @Benchmark
+    public Result<Integer, String> recoverSuccess() {
+        return success.recover(RECOVER);
+    }
+
+    @Benchmark
+    public Result<Integer, String> recoverFailure() {
+        return failure.recover(RECOVER);
+    }
+
+    @Benchmark
+    public Result<Integer, String> combineSuccess() {
+        return Result.combine(success, success, SUM);
+    }
+
+    @Benchmark
+    public Result<Integer, String> combineFailure() {
+        return Result.combine(success, failure, SUM);
+    }
+
+    /**
+     * Ten stages over a failure: every combinator hands back the same failure instance,
+     * so {@code gc.alloc.rate.norm} is 0 bytes/op, as ResultTest checks with the thread's
+     * allocation counter.
+     */
+    @Benchmark
+    public Result<Integer, String> tenStageFailureChain() {
+        return tenStageChain(failure);
+    }
+
+    @Benchmark
+    public Result<Integer, String> tenStageSuccessChain() {
+        return tenStageChain(success);
+    }
+
+    // Baselines
+
+    @Benchmark
+    public Optional<Integer> optionalMapPresent() {
+        return present.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMapEmpty() {
+        return empty.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Integer exceptionSuccess() {
+        try {
+            return INCREMENT.apply(lookup(true));
+        } catch (IllegalStateException ex) {
+            return ex.getMessage().length();
+        }
+    }
+
+    @Benchmark
+    public Integer exceptionFailure() {
+        try {
+            return INCREMENT.apply(lookup(false));
+        } catch (IllegalStateException ex) {
+            return ex.getMessage().length();
+        }
+    }
+
+    private Result<Integer, String> tenStageChain(Result<Integer, String> start) {
+        Result<Integer, String> result = start
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT);
+        result = Result.combine(result, success, SUM);
+        return result
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT);
+    }
+
+    private Integer lookup(boolean found) {
+        if (!found) {
+            throw new IllegalStateException(error);
+        }
+        return value;
+    }
+}
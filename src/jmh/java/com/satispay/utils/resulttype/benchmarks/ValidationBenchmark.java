@@ -0,0 +1,83 @@
+package com.satispay.utils.resulttype.benchmarks;
+
+import com.satispay.utils.resulttype.Function3;
+import com.satispay.utils.resulttype.Result;
+import com.satispay.utils.resulttype.Validation;
+import com.satispay.utils.resulttype.ValidationErrors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of {@link Validation} on the success path, where
+ * {@code Validation.combine} should allocate only the value and its Result, as
+ * {@link Result#combine} does, and on the failure path. The builder form is measured alongside.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private static final Function3<Integer, String, String, Payment> PAYMENT = Payment::new;
+
+    private Result<Integer, String> amount;
+    private Result<String, String> currency;
+    private Result<String, String> merchant;
+    private Result<String, String> missingMerchant;
+
+    @Setup
+    public void setUp() {
+        amount = Result.success(100);
+        currency = Result.success("EUR");
+        merchant = Result.success("merchant-1");
+        missingMerchant = Result.failure("merchant is required");
+    }
+
+    @Benchmark
+    public Result<Payment, ValidationErrors<String>> combineSuccess() {
+        return Validation.combine(amount, currency, merchant, PAYMENT);
+    }
+
+    @Benchmark
+    public Result<Payment, ValidationErrors<String>> combineFailure() {
+        return Validation.combine(amount, currency, missingMerchant, PAYMENT);
+    }
+
+    @Benchmark
+    public Result<Payment, String> resultCombineSuccess() {
+        return Result.combine(amount, currency, merchant, PAYMENT);
+    }
+
+    @Benchmark
+    public Result<Payment, ValidationErrors<String>> builderSuccess() {
+        Validation<String> validation = Validation.create();
+        Integer checkedAmount = validation.check(amount);
+        String checkedCurrency = validation.check(currency);
+        String checkedMerchant = validation.check(merchant);
+        return validation.complete(() -> new Payment(checkedAmount, checkedCurrency, checkedMerchant));
+    }
+
+    public static final class Payment {
+        private final int amount;
+        private final String currency;
+        private final String merchant;
+
+        Payment(int amount, String currency, String merchant) {
+            this.amount = amount;
+            this.currency = currency;
+            this.merchant = merchant;
+        }
+    }
+}
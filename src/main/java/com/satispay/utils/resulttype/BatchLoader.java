@@ -0,0 +1,317 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Batches the lookups of individual keys into calls of a batch function, to avoid N+1 round trips.
+ *
+ * <p>{@link #load(Object)} returns a LazyResult per key. When such LazyResults are evaluated
+ * concurrently, for instance with {@link LazyResult#allOf(Collection, java.util.concurrent.Executor)}
+ * or from many request threads, their keys are gathered into a batch: the first evaluation opens the batch and
+ * waits for the batch window, or until the batch holds the maximum number of keys, then calls the
+ * batch function once with all the gathered keys and hands each caller the Result of its key.
+ * A caller that finds no other evaluation in progress, when the previous batch gathered no key
+ * but the one of its opener, dispatches its key right away instead: a loader used by one caller
+ * at a time waits for the window once, not on every evaluation.
+ * {@link #loadMany(Collection)} loads a known set of keys directly, without waiting for the window.
+ *
+ * <p>Failures map into the error type of each caller: the Result the batch function returns for a
+ * key is returned as is, a key missing from the returned map fails with the missing-key error, and
+ * an exception thrown by the batch function fails every key of the batch with the error mapped by
+ * the error mapper, or with the error carried by a {@link FailureException}.
+ *
+ * <p>Each {@code with} method returns a new loader with the updated configuration and no pending
+ * batch. Unless configured otherwise, batches hold up to 100 keys and the window is 1 millisecond.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * BatchLoader<UserId, User, String> users = BatchLoader.create(
+ *     ids -> userRepository.findAll(ids).stream()
+ *         .collect(Collectors.toMap(User::getId, Result::success)),
+ *     ex -> "User lookup failed: " + ex.getMessage()
+ * );
+ *
+ * LazyResult<List<User>, String> participants = LazyResult.allOf(
+ *     payment.participantIds().stream().map(users::load).collect(Collectors.toList()),
+ *     ioExecutor
+ * );
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ * @param <E> the type of the error
+ */
+public final class BatchLoader<K, V, E> {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final long DEFAULT_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Function<Set<K>, Map<K, Result<V, E>>> batchFunction;
+    private final Function<Exception, E> errorMapper;
+    private final Function<? super K, ? extends E> missingKeyError;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private Batch pending;
+    private int inFlight;
+    private boolean lastBatchAlone;
+
+    private BatchLoader(Function<Set<K>, Map<K, Result<V, E>>> batchFunction, Function<Exception, E> errorMapper,
+                        Function<? super K, ? extends E> missingKeyError, int maxBatchSize, long windowNanos) {
+        this.batchFunction = batchFunction;
+        this.errorMapper = errorMapper;
+        this.missingKeyError = missingKeyError;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Creates a loader calling the given batch function with the keys gathered in each batch.
+     * A key missing from the returned map fails with a {@link NoSuchElementException} mapped by
+     * the error mapper.
+     *
+     * @param <K>           the type of the keys
+     * @param <V>           the type of the loaded values
+     * @param <E>           the type of the error
+     * @param batchFunction loads all the given keys, returning the Result of each one
+     * @param errorMapper   maps an exception thrown by the batch function or a chained operation to an error
+     * @return a new BatchLoader
+     * @throws NullPointerException if batchFunction or errorMapper is null
+     */
+    public static <K, V, E> BatchLoader<K, V, E> create(Function<Set<K>, Map<K, Result<V, E>>> batchFunction,
+                                                        Function<Exception, E> errorMapper) {
+        Objects.requireNonNull(batchFunction, "batchFunction cannot be null");
+        Objects.requireNonNull(errorMapper, "errorMapper cannot be null");
+        return new BatchLoader<>(batchFunction, errorMapper,
+                key -> errorMapper.apply(new NoSuchElementException("No result for key " + key)),
+                DEFAULT_MAX_BATCH_SIZE, DEFAULT_WINDOW_NANOS);
+    }
+
+    /**
+     * Returns a loader whose batches hold at most the given number of keys.
+     *
+     * @param maxBatchSize the maximum number of keys per call of the batch function, must be positive
+     * @return a new BatchLoader
+     * @throws IllegalArgumentException if maxBatchSize is not positive
+     */
+    public BatchLoader<K, V, E> withMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        return new BatchLoader<>(batchFunction, errorMapper, missingKeyError, maxBatchSize, windowNanos);
+    }
+
+    /**
+     * Returns a loader that gathers keys for the given window after the first key of a batch.
+     * A zero window dispatches every {@link #load(Object)} on its own, unless the evaluations overlap.
+     *
+     * @param window how long a batch waits for more keys, not negative
+     * @return a new BatchLoader
+     * @throws NullPointerException     if window is null
+     * @throws IllegalArgumentException if window is negative
+     */
+    public BatchLoader<K, V, E> withWindow(Duration window) {
+        Objects.requireNonNull(window, "window cannot be null");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window cannot be negative");
+        }
+        return new BatchLoader<>(batchFunction, errorMapper, missingKeyError, maxBatchSize, window.toNanos());
+    }
+
+    /**
+     * Returns a loader that fails a key missing from the map returned by the batch function
+     * with the given error.
+     *
+     * @param missingKeyError maps a missing key to an error
+     * @return a new BatchLoader
+     * @throws NullPointerException if missingKeyError is null
+     */
+    public BatchLoader<K, V, E> withMissingKeyError(Function<? super K, ? extends E> missingKeyError) {
+        Objects.requireNonNull(missingKeyError, "missingKeyError cannot be null");
+        return new BatchLoader<>(batchFunction, errorMapper, missingKeyError, maxBatchSize, windowNanos);
+    }
+
+    /**
+     * Returns a LazyResult loading the given key as part of a batch.
+     * Every evaluation loads the key again, in the batch open at that time.
+     *
+     * <p>An evaluation opening a batch waits up to the window for other keys, unless no other
+     * evaluation is in progress and the previous batch gathered no other key, in which case it
+     * dispatches right away. A caller evaluating its loads one at a time thus pays the window on
+     * the first evaluation only, and concurrent callers pay it on every batch they open. After such
+     * a run of lone evaluations, a burst of concurrent ones sends its first key alone and batches
+     * the keys arriving while that call is in progress.
+     * The batch is shared, so it runs outside the deadline of the evaluation opening it.
+     *
+     * @param key the key to load
+     * @return a LazyResult of the value loaded for the key
+     * @throws NullPointerException if key is null
+     */
+    public LazyResult<V, E> load(K key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        // The batch is shared: the deadline of this caller must not fail it for the others
+        return LazyResult.fromResultSupplier(() -> TimeoutGuard.outsideDeadline(() -> loadOne(key)), errorMapper);
+    }
+
+    private Result<V, E> loadOne(K key) {
+        try {
+            return enqueue(key).resultFor(key);
+        } finally {
+            synchronized (this) {
+                inFlight--;
+            }
+        }
+    }
+
+    /**
+     * Returns a LazyResult loading all the given keys directly, in as few calls of the batch
+     * function as the maximum batch size allows. The batches are dispatched one after the other,
+     * and loading stops at the first batch holding a failed key.
+     *
+     * @param keys the keys to load
+     * @return a LazyResult of the values in the order of the keys, or of the failure of the first failed key
+     * @throws NullPointerException if keys or any key is null
+     */
+    public LazyResult<List<V>, E> loadMany(Collection<? extends K> keys) {
+        Objects.requireNonNull(keys, "keys cannot be null");
+        List<K> ordered = new ArrayList<>(keys);
+        for (K key : ordered) {
+            Objects.requireNonNull(key, "key cannot be null");
+        }
+        return LazyResult.fromResultSupplier(() -> loadAll(ordered), errorMapper);
+    }
+
+    private Result<List<V>, E> loadAll(List<K> keys) {
+        Map<K, Batch> batches = new HashMap<>();
+        Batch batch = null;
+        for (K key : keys) {
+            if (!batches.containsKey(key)) {
+                if (batch == null || batch.isFull()) {
+                    batch = new Batch();
+                }
+                batch.keys.add(key);
+                batches.put(key, batch);
+            }
+        }
+        List<V> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            batch = batches.get(key);
+            if (!batch.outcome.isDone()) {
+                batch.dispatch();
+            }
+            Result<V, E> result = batch.resultFor(key);
+            if (!result.isSuccess()) {
+                return Result.failure(result.getError());
+            }
+            values.add(result.getData());
+        }
+        return Result.success(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Adds the key to the pending batch, opening one if needed, and dispatches the batch when this
+     * caller opened it. A caller alone with the loader dispatches its key without opening a batch
+     * to the others, when the previous batch showed no other caller joining within the window.
+     */
+    private Batch enqueue(K key) {
+        Batch batch;
+        boolean opened = false;
+        boolean alone = false;
+        synchronized (this) {
+            batch = pending;
+            if (batch == null) {
+                batch = new Batch();
+                opened = true;
+                alone = inFlight == 0 && lastBatchAlone;
+                if (!alone) {
+                    pending = batch;
+                }
+            }
+            inFlight++;
+            batch.keys.add(key);
+            if (!alone && batch.isFull()) {
+                pending = null;
+                batch.full.countDown();
+            }
+        }
+        if (opened) {
+            if (!alone) {
+                batch.awaitWindow();
+            }
+            synchronized (this) {
+                if (pending == batch) {
+                    pending = null;
+                }
+                lastBatchAlone = batch.keys.size() == 1;
+            }
+            batch.dispatch();
+        }
+        return batch;
+    }
+
+    /**
+     * The keys gathered for one call of the batch function, and the outcome of that call.
+     */
+    private final class Batch {
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<Map<K, Result<V, E>>> outcome = new CompletableFuture<>();
+        private volatile Result<V, E> batchFailure;
+
+        private boolean isFull() {
+            return keys.size() >= maxBatchSize;
+        }
+
+        private void awaitWindow() {
+            if (windowNanos == 0) {
+                return;
+            }
+            try {
+                full.await(windowNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                // Dispatch right away and leave the interrupt to the evaluation
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void dispatch() {
+            try {
+                Map<K, Result<V, E>> results = batchFunction.apply(Collections.unmodifiableSet(keys));
+                outcome.complete(Objects.requireNonNull(results, "batchFunction returned null"));
+            } catch (Exception ex) {
+                try {
+                    batchFailure = Result.failure(ex instanceof FailureException
+                            ? ((FailureException) ex).getError()
+                            : errorMapper.apply(ex));
+                    outcome.complete(Collections.emptyMap());
+                } catch (RuntimeException mapperFailure) {
+                    outcome.completeExceptionally(mapperFailure);
+                }
+            } catch (Error ex) {
+                outcome.completeExceptionally(ex);
+            }
+        }
+
+        private Result<V, E> resultFor(K key) {
+            Map<K, Result<V, E>> results = Memoizer.join(outcome);
+            Result<V, E> failure = batchFailure;
+            if (failure != null) {
+                return failure;
+            }
+            Result<V, E> result = results.get(key);
+            return result != null ? result : Result.failure(missingKeyError.apply(key));
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing dependency for a while, failing fast instead of waiting on it.
+ *
+ * <p>The breaker starts {@link State#CLOSED closed}: evaluations run and their outcomes are counted
+ * in a sliding time window. Once the window holds at least the minimum number of calls and the
+ * failure rate reaches the threshold, the breaker opens. While {@link State#OPEN open}, evaluations
+ * fail immediately with the error supplied by {@code onOpen}, without running the computation.
+ * After the cool-down, the breaker lets a few probe evaluations through in the
+ * {@link State#HALF_OPEN half-open} state: it closes again if all of them succeed and opens again
+ * on the first failure.
+ *
+ * <p>The state is an immutable object swapped with compare-and-set, so checking a closed breaker
+ * is a single volatile read and thousands of threads can share one breaker without contention.
+ * The window is a ring of buckets whose counters are {@link LongAdder}s.
+ *
+ * <p>A CircuitBreaker is meant to be shared by all the calls to one dependency. Each {@code with}
+ * method returns a new, closed breaker with the updated configuration, so configure it before
+ * sharing it. Unless configured otherwise, the breaker opens at a 50% failure rate over the last
+ * 10 seconds with at least 20 calls, stays open for 30 seconds and lets one probe through.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * CircuitBreaker<String> walletBreaker = CircuitBreaker.create(() -> "Wallet service unavailable")
+ *     .withFailureRateThreshold(0.25)
+ *     .withCoolDown(Duration.ofSeconds(10));
+ *
+ * Result<Wallet, String> wallet = findWallet(userId).withCircuitBreaker(walletBreaker).evaluate();
+ * }</pre>
+ *
+ * @param <E> the type of the error
+ * @see LazyResult#withCircuitBreaker(CircuitBreaker)
+ */
+public final class CircuitBreaker<E> {
+    private static final int WINDOW_BUCKETS = 10;
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Evaluations run and their outcomes are counted.
+         */
+        CLOSED,
+        /**
+         * Evaluations fail immediately without running.
+         */
+        OPEN,
+        /**
+         * A limited number of probe evaluations run to decide whether to close again.
+         */
+        HALF_OPEN
+    }
+
+    private final Supplier<? extends E> onOpen;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowNanos;
+    private final long coolDownNanos;
+    private final int probes;
+    private final Predicate<? super E> countFailureIf;
+    private final LongSupplier clock;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(Supplier<? extends E> onOpen, double failureRateThreshold, int minimumCalls,
+                           long windowNanos, long coolDownNanos, int probes,
+                           Predicate<? super E> countFailureIf, LongSupplier clock) {
+        this.onOpen = onOpen;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowNanos = windowNanos;
+        this.coolDownNanos = coolDownNanos;
+        this.probes = probes;
+        this.countFailureIf = countFailureIf;
+        this.clock = clock;
+        this.phase = new AtomicReference<>(new Closed(windowNanos / WINDOW_BUCKETS));
+    }
+
+    /**
+     * Creates a closed breaker with the default configuration.
+     *
+     * @param <E>    the type of the error
+     * @param onOpen supplies the error returned while the breaker is open
+     * @return a new CircuitBreaker
+     * @throws NullPointerException if onOpen is null
+     */
+    public static <E> CircuitBreaker<E> create(Supplier<? extends E> onOpen) {
+        Objects.requireNonNull(onOpen, "onOpen cannot be null");
+        return new CircuitBreaker<>(onOpen, 0.5, 20, Duration.ofSeconds(10).toNanos(),
+                Duration.ofSeconds(30).toNanos(), 1, error -> true, System::nanoTime);
+    }
+
+    /**
+     * Returns a breaker that opens once the failure rate over the window reaches the threshold.
+     *
+     * @param failureRateThreshold the failure rate opening the breaker, greater than 0 and at most 1
+     * @return a new CircuitBreaker
+     * @throws IllegalArgumentException if failureRateThreshold is out of range
+     */
+    public CircuitBreaker<E> withFailureRateThreshold(double failureRateThreshold) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1");
+        }
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, windowNanos, coolDownNanos,
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns a breaker that counts outcomes over the given sliding window and does not open
+     * before the window holds at least {@code minimumCalls} calls.
+     *
+     * @param window       the period over which outcomes are counted, at least 10 nanoseconds
+     * @param minimumCalls the calls needed before the failure rate is considered, must be positive
+     * @return a new CircuitBreaker
+     * @throws NullPointerException     if window is null
+     * @throws IllegalArgumentException if window or minimumCalls is out of range
+     */
+    public CircuitBreaker<E> withSlidingWindow(Duration window, int minimumCalls) {
+        Objects.requireNonNull(window, "window cannot be null");
+        if (window.toNanos() < WINDOW_BUCKETS) {
+            throw new IllegalArgumentException("window must be at least " + WINDOW_BUCKETS + " nanoseconds");
+        }
+        if (minimumCalls < 1) {
+            throw new IllegalArgumentException("minimumCalls must be positive");
+        }
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, window.toNanos(), coolDownNanos,
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns a breaker that stays open for the given cool-down before letting probes through.
+     *
+     * @param coolDown how long the breaker stays open, must be positive
+     * @return a new CircuitBreaker
+     * @throws NullPointerException     if coolDown is null
+     * @throws IllegalArgumentException if coolDown is not positive
+     */
+    public CircuitBreaker<E> withCoolDown(Duration coolDown) {
+        Objects.requireNonNull(coolDown, "coolDown cannot be null");
+        if (coolDown.isNegative() || coolDown.isZero()) {
+            throw new IllegalArgumentException("coolDown must be positive");
+        }
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, windowNanos, coolDown.toNanos(),
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns a breaker that lets the given number of probes through when half-open,
+     * and closes once all of them succeeded.
+     *
+     * @param probes the evaluations allowed while half-open, must be positive
+     * @return a new CircuitBreaker
+     * @throws IllegalArgumentException if probes is not positive
+     */
+    public CircuitBreaker<E> withProbes(int probes) {
+        if (probes < 1) {
+            throw new IllegalArgumentException("probes must be positive");
+        }
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, windowNanos, coolDownNanos,
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns a breaker that only counts the failures whose error matches the predicate;
+     * other failures count as successes, for instance a "not found" that says nothing about
+     * the health of the dependency.
+     *
+     * @param countFailureIf the predicate deciding whether an error counts as a failure
+     * @return a new CircuitBreaker
+     * @throws NullPointerException if countFailureIf is null
+     */
+    public CircuitBreaker<E> countFailureIf(Predicate<? super E> countFailureIf) {
+        Objects.requireNonNull(countFailureIf, "countFailureIf cannot be null");
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, windowNanos, coolDownNanos,
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns a breaker reading time from the given nanosecond clock, for tests.
+     */
+    CircuitBreaker<E> withClock(LongSupplier clock) {
+        Objects.requireNonNull(clock, "clock cannot be null");
+        return new CircuitBreaker<>(onOpen, failureRateThreshold, minimumCalls, windowNanos, coolDownNanos,
+                probes, countFailureIf, clock);
+    }
+
+    /**
+     * Returns the current state of the breaker. An open breaker whose cool-down elapsed is
+     * reported open until the next evaluation moves it to half-open.
+     *
+     * @return the current state
+     */
+    public State state() {
+        return phase.get().state();
+    }
+
+    /**
+     * Evaluates the LazyResult if the breaker allows it and records the outcome,
+     * or returns the open failure without evaluating it.
+     */
+    <T> Result<T, E> evaluate(LazyResult<T, E> lazyResult) {
+        Phase acquired = tryAcquire();
+        if (acquired == null) {
+            return Result.failure(onOpen.get());
+        }
+        boolean failed = true;
+        try {
+            Result<T, E> result = lazyResult.evaluate();
+            failed = !result.isSuccess() && countFailureIf.test(result.getError());
+            return result;
+        } finally {
+            onOutcome(acquired, failed);
+        }
+    }
+
+    /**
+     * Returns the phase the evaluation is permitted in, or null if the breaker rejects it.
+     */
+    private Phase tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            if (current instanceof Closed) {
+                return current;
+            }
+            if (current instanceof HalfOpen) {
+                return ((HalfOpen) current).tryAcquireProbe() ? current : null;
+            }
+            Open open = (Open) current;
+            if (clock.getAsLong() - open.openedAt < coolDownNanos) {
+                return null;
+            }
+            phase.compareAndSet(open, new HalfOpen(probes));
+        }
+    }
+
+    private void onOutcome(Phase acquired, boolean failed) {
+        if (acquired instanceof Closed) {
+            Closed closed = (Closed) acquired;
+            long now = clock.getAsLong();
+            closed.record(now, failed);
+            if (failed && closed.shouldOpen(now, minimumCalls, failureRateThreshold)) {
+                phase.compareAndSet(closed, new Open(now));
+            }
+        } else if (failed) {
+            phase.compareAndSet(acquired, new Open(clock.getAsLong()));
+        } else if (((HalfOpen) acquired).successes.incrementAndGet() >= probes) {
+            phase.compareAndSet(acquired, new Closed(windowNanos / WINDOW_BUCKETS));
+        }
+    }
+
+    private abstract static class Phase {
+        abstract State state();
+    }
+
+    /**
+     * The closed phase, owning the window of the outcomes counted since the breaker closed.
+     */
+    private static final class Closed extends Phase {
+        private final long bucketNanos;
+        private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(WINDOW_BUCKETS);
+
+        private Closed(long bucketNanos) {
+            this.bucketNanos = bucketNanos;
+        }
+
+        @Override
+        State state() {
+            return State.CLOSED;
+        }
+
+        private void record(long now, boolean failed) {
+            Bucket bucket = bucket(Math.floorDiv(now, bucketNanos));
+            bucket.calls.increment();
+            if (failed) {
+                bucket.failures.increment();
+            }
+        }
+
+        /**
+         * Returns the bucket of the given epoch, recycling the slot of an epoch that left the window.
+         * A caller whose time is older than the epoch already in the slot counts into that newer
+         * bucket rather than replacing it, which would lose the counts of the newer epoch.
+         */
+        private Bucket bucket(long epoch) {
+            int index = (int) Math.floorMod(epoch, (long) WINDOW_BUCKETS);
+            while (true) {
+                Bucket bucket = buckets.get(index);
+                if (bucket != null && bucket.epoch >= epoch) {
+                    return bucket;
+                }
+                Bucket fresh = new Bucket(epoch);
+                if (buckets.compareAndSet(index, bucket, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        private boolean shouldOpen(long now, int minimumCalls, double failureRateThreshold) {
+            long oldestEpoch = Math.floorDiv(now, bucketNanos) - WINDOW_BUCKETS + 1;
+            long calls = 0;
+            long failures = 0;
+            for (int i = 0; i < WINDOW_BUCKETS; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && bucket.epoch >= oldestEpoch) {
+                    calls += bucket.calls.sum();
+                    failures += bucket.failures.sum();
+                }
+            }
+            return calls >= minimumCalls && failures >= failureRateThreshold * calls;
+        }
+    }
+
+    private static final class Open extends Phase {
+        private final long openedAt;
+
+        private Open(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        @Override
+        State state() {
+            return State.OPEN;
+        }
+    }
+
+    private static final class HalfOpen extends Phase {
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private HalfOpen(int probes) {
+            this.permits = new AtomicInteger(probes);
+        }
+
+        @Override
+        State state() {
+            return State.HALF_OPEN;
+        }
+
+        private boolean tryAcquireProbe() {
+            int available;
+            while ((available = permits.get()) > 0) {
+                if (permits.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
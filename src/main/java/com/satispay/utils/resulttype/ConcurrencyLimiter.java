@@ -0,0 +1,253 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caps the concurrent evaluations sent to a dependency, adapting the cap to the latency it observes.
+ *
+ * <p>An evaluation runs only while fewer evaluations than the current limit are in flight;
+ * otherwise it fails immediately with the error supplied by {@code onLimitExceeded}, without
+ * running the computation. After each evaluation, the limit is adjusted with a latency gradient:
+ * the ratio between a long-term average of the latency, which tracks the latency of the dependency
+ * when it is not overloaded, and the latency just observed. While the observed latency stays within
+ * the tolerance of the average, the limit grows by about the square root of itself, probing for
+ * more capacity; when queueing makes the latency rise, the gradient drops below one and the limit
+ * shrinks proportionally, by at most half per sample. The limit only grows while at least half of
+ * it is in use, so a quiet period does not inflate it.
+ *
+ * <p>Acquiring a permit is a compare-and-set on the in-flight count and the estimate is an
+ * immutable object swapped with compare-and-set, so the limiter is lock-free. Unless configured
+ * otherwise, the limit starts at 20 and stays between 1 and 1000, the tolerance is 1.5 and each
+ * sample moves the limit 20% of the way towards its new estimate.
+ *
+ * <p>A ConcurrencyLimiter is meant to be shared by all the calls to one dependency. Each
+ * {@code with} method returns a new limiter with the updated configuration and nothing in flight,
+ * so configure it before sharing it. {@link #limit()}, {@link #inFlight()} and
+ * {@link #rejections()} expose its metrics.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ConcurrencyLimiter<String> ledgerLimiter = ConcurrencyLimiter.create(() -> "Ledger overloaded")
+ *     .withLimits(10, 2, 200);
+ *
+ * Result<Balance, String> balance = fetchBalance(userId).withConcurrencyLimiter(ledgerLimiter).evaluate();
+ *
+ * metrics.gauge("ledger.limit", ledgerLimiter::limit);
+ * }</pre>
+ *
+ * @param <E> the type of the error
+ * @see LazyResult#withConcurrencyLimiter(ConcurrencyLimiter)
+ */
+public final class ConcurrencyLimiter<E> {
+    /**
+     * Number of samples the long-term latency average spans.
+     */
+    private static final int LONG_WINDOW = 600;
+    private static final double LONG_ALPHA = 2.0 / (LONG_WINDOW + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final Supplier<? extends E> onLimitExceeded;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final LongSupplier clock;
+    private final AtomicReference<Estimate> estimate;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejections = new LongAdder();
+
+    private ConcurrencyLimiter(Supplier<? extends E> onLimitExceeded, int initialLimit, int minLimit, int maxLimit,
+                               double rttTolerance, double smoothing, LongSupplier clock) {
+        this.onLimitExceeded = onLimitExceeded;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.clock = clock;
+        this.estimate = new AtomicReference<>(new Estimate(initialLimit, 0));
+    }
+
+    /**
+     * Creates a limiter with the default configuration.
+     *
+     * @param <E>             the type of the error
+     * @param onLimitExceeded supplies the error returned when the limit is reached
+     * @return a new ConcurrencyLimiter
+     * @throws NullPointerException if onLimitExceeded is null
+     */
+    public static <E> ConcurrencyLimiter<E> create(Supplier<? extends E> onLimitExceeded) {
+        Objects.requireNonNull(onLimitExceeded, "onLimitExceeded cannot be null");
+        return new ConcurrencyLimiter<>(onLimitExceeded, 20, 1, 1000, 1.5, 0.2, System::nanoTime);
+    }
+
+    /**
+     * Returns a limiter starting at {@code initial} and adapting between {@code min} and {@code max}.
+     *
+     * @param initial the limit before any latency was observed
+     * @param min     the lowest limit, must be positive
+     * @param max     the highest limit, must not be lower than min
+     * @return a new ConcurrencyLimiter
+     * @throws IllegalArgumentException if the limits are not ordered as {@code 0 < min <= initial <= max}
+     */
+    public ConcurrencyLimiter<E> withLimits(int initial, int min, int max) {
+        if (min < 1 || initial < min || max < initial) {
+            throw new IllegalArgumentException("limits must satisfy 0 < min <= initial <= max");
+        }
+        return new ConcurrencyLimiter<>(onLimitExceeded, initial, min, max, rttTolerance, smoothing, clock);
+    }
+
+    /**
+     * Returns a limiter that tolerates latencies up to the given multiple of the long-term average
+     * before shrinking the limit.
+     *
+     * @param rttTolerance the tolerated latency increase, at least 1
+     * @return a new ConcurrencyLimiter
+     * @throws IllegalArgumentException if rttTolerance is lower than 1
+     */
+    public ConcurrencyLimiter<E> withRttTolerance(double rttTolerance) {
+        if (!(rttTolerance >= 1)) {
+            throw new IllegalArgumentException("rttTolerance must be at least 1");
+        }
+        return new ConcurrencyLimiter<>(onLimitExceeded, initialLimit, minLimit, maxLimit,
+                rttTolerance, smoothing, clock);
+    }
+
+    /**
+     * Returns a limiter that moves the limit by the given fraction of the way towards each new estimate.
+     *
+     * @param smoothing the weight of a new estimate, greater than 0 and at most 1
+     * @return a new ConcurrencyLimiter
+     * @throws IllegalArgumentException if smoothing is out of range
+     */
+    public ConcurrencyLimiter<E> withSmoothing(double smoothing) {
+        if (!(smoothing > 0 && smoothing <= 1)) {
+            throw new IllegalArgumentException("smoothing must be greater than 0 and at most 1");
+        }
+        return new ConcurrencyLimiter<>(onLimitExceeded, initialLimit, minLimit, maxLimit,
+                rttTolerance, smoothing, clock);
+    }
+
+    /**
+     * Returns a limiter reading time from the given nanosecond clock, for tests.
+     */
+    ConcurrencyLimiter<E> withClock(LongSupplier clock) {
+        Objects.requireNonNull(clock, "clock cannot be null");
+        return new ConcurrencyLimiter<>(onLimitExceeded, initialLimit, minLimit, maxLimit,
+                rttTolerance, smoothing, clock);
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the maximum number of evaluations currently allowed in flight
+     */
+    public int limit() {
+        return estimate.get().permits;
+    }
+
+    /**
+     * Returns the number of evaluations in flight.
+     *
+     * @return the evaluations holding a permit
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of evaluations rejected because the limit was reached.
+     *
+     * @return the total rejections since the limiter was created
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Evaluates the LazyResult if a permit is available and samples its latency,
+     * or returns the limit failure without evaluating it.
+     */
+    <T> Result<T, E> evaluate(LazyResult<T, E> lazyResult) {
+        int acquired = tryAcquire();
+        if (acquired < 0) {
+            rejections.increment();
+            return Result.failure(onLimitExceeded.get());
+        }
+        long start = clock.getAsLong();
+        try {
+            return lazyResult.evaluate();
+        } finally {
+            onSample(clock.getAsLong() - start, acquired);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Takes a permit, returning the number of evaluations in flight including this one,
+     * or -1 if the limit is reached.
+     */
+    private int tryAcquire() {
+        int limit = estimate.get().permits;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Feeds the latency of an evaluation, and the evaluations in flight when it started, to the estimate.
+     */
+    void onSample(long rttNanos, int inFlightAtStart) {
+        double rtt = Math.max(rttNanos, 1);
+        while (true) {
+            Estimate current = estimate.get();
+            Estimate next = current.next(rtt, inFlightAtStart);
+            if (estimate.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The limit and the long-term latency average, updated together. The whole number of permits
+     * is published with them, so it never goes out of step with the estimate it comes from.
+     */
+    private final class Estimate {
+        private final double limit;
+        private final double longRtt;
+        private final int permits;
+
+        private Estimate(double limit, double longRtt) {
+            this.limit = limit;
+            this.longRtt = longRtt;
+            this.permits = (int) limit;
+        }
+
+        private Estimate next(double rtt, int inFlightAtStart) {
+            double average = longRtt == 0 ? rtt : longRtt * (1 - LONG_ALPHA) + rtt * LONG_ALPHA;
+            // After a long spell of high latency, let the average converge instead of keeping the limit low
+            if (average / rtt > 2) {
+                average *= 0.95;
+            }
+            if (inFlightAtStart < limit / 2) {
+                return new Estimate(limit, average);
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * average / rtt));
+            double target = limit * gradient + Math.sqrt(limit);
+            double smoothed = limit * (1 - smoothing) + target * smoothing;
+            return new Estimate(Math.max(minLimit, Math.min(maxLimit, smoothed)), average);
+        }
+    }
+}
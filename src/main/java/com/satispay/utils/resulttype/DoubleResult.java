@@ -0,0 +1,375 @@
+package com.satispay.utils.resulttype;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link Result} specialized for {@code double} success values.
+ * The success value is stored unboxed, so numeric pipelines built from
+ * {@link #map}, {@link #flatMap} and the {@code mapToXxx} methods never allocate a
+ * {@code Double} on the success path.
+ *
+ * <p>A DoubleResult is immutable and can be in one of two states:
+ * <ul>
+ *   <li>Success - contains a {@code double} value</li>
+ *   <li>Failure - contains a non-null error of type E</li>
+ * </ul>
+ *
+ * <p>As with {@link Result}, each state is a subclass holding a single field, the value or the
+ * error, so a DoubleResult takes 24 bytes on a 64-bit JVM with compressed references.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * DoubleResult<String> result = DoubleResult.success(0.75)
+ *     .map(score -> score * 100);
+ *
+ * Result<String, String> formatted = result.mapToObj(v -> "Value: " + v);
+ * }</pre>
+ *
+ * @param <E> the type of the error value
+ * @see Result#mapToDouble
+ */
+public abstract class DoubleResult<E> implements Serializable {
+    private static final long serialVersionUID = 2L;
+
+    private DoubleResult() {
+    }
+
+    /**
+     * Creates a successful DoubleResult containing the given value.
+     *
+     * @param <E>  the type of the error value
+     * @param data the success value
+     * @return a successful DoubleResult containing the given value
+     */
+    public static <E> DoubleResult<E> success(double data) {
+        return new Success<>(data);
+    }
+
+    /**
+     * Creates a failed DoubleResult containing the given error.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value, must not be null
+     * @return a failed DoubleResult containing the given error
+     * @throws NullPointerException if error is null
+     */
+    public static <E> DoubleResult<E> failure(E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        return new Failure<>(error);
+    }
+
+    /**
+     * Checks if this DoubleResult represents a success.
+     *
+     * @return true if this is a success, false if this is a failure
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns the success value.
+     * Returns 0 if this is a failure.
+     *
+     * @return the success value, or 0 if this is a failure
+     */
+    public abstract double getData();
+
+    /**
+     * Returns the error value.
+     * Returns null if this is a success.
+     *
+     * @return the error value, or null if this is a success
+     */
+    public abstract E getError();
+
+    // Functional methods
+
+    /**
+     * Converts the success value to an OptionalDouble.
+     * Returns an empty OptionalDouble if this is a failure.
+     *
+     * @return an OptionalDouble containing the success value, or empty if this is a failure
+     */
+    public OptionalDouble toOptional() {
+        return isSuccess() ? OptionalDouble.of(getData()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Converts this DoubleResult into a boxed {@link Result}.
+     *
+     * @return a Result containing the boxed success value, or a failure with the same error
+     */
+    public Result<Double, E> boxed() {
+        return isSuccess() ? Result.success(getData()) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using the provided mapper function.
+     * If this is a failure, returns this same instance without allocating.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * DoubleResult<String> result = DoubleResult.success(0.75);
+     * DoubleResult<String> mapped = result.map(score -> score * 100);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return a DoubleResult containing the transformed value, or the same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public DoubleResult<E> map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getData())) : this;
+    }
+
+    /**
+     * Transforms the success value into an {@code int} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return an IntResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public IntResult<E> mapToInt(DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getData())) : IntResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into a {@code long} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return a LongResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public LongResult<E> mapToLong(DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getData())) : LongResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into an object using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param <U>    the type of the transformed value
+     * @param mapper the function to transform the success value
+     * @return a Result containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> Result<U, E> mapToObj(DoubleFunction<U> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? Result.success(mapper.apply(getData())) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using a function that returns a DoubleResult.
+     * Useful for chaining numeric operations that may fail.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * DoubleResult<String> checked = result.flatMap(score -> score < 0 ? DoubleResult.failure("Negative score") : DoubleResult.success(Math.sqrt(score)));
+     * }</pre>
+     *
+     * @param mapper the function that returns a DoubleResult
+     * @return the DoubleResult returned by the mapper, or this same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public DoubleResult<E> flatMap(DoubleFunction<DoubleResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(getData()) : this;
+    }
+
+    /**
+     * Transforms the error value using the provided mapper function.
+     * If this is a success, returns this same instance without allocating.
+     *
+     * @param <E2>   the type of the transformed error
+     * @param mapper the function to transform the error value
+     * @return a DoubleResult with the transformed error, or the same success
+     * @throws NullPointerException if mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    public <E2> DoubleResult<E2> mapError(Function<E, E2> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? (DoubleResult<E2>) this : DoubleResult.failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Returns the success value or the provided default value if this is a failure.
+     *
+     * @param defaultValue the value to return if this is a failure
+     * @return the success value, or the default value if this is a failure
+     */
+    public double orElse(double defaultValue) {
+        return isSuccess() ? getData() : defaultValue;
+    }
+
+    /**
+     * Returns the success value or throws an exception created by the provided function.
+     *
+     * @param exceptionMapper the function that creates an exception from the error
+     * @return the success value
+     * @throws RuntimeException      the exception created by the mapper if this is a failure
+     * @throws NullPointerException if exceptionMapper is null
+     */
+    public double orElseThrow(Function<E, ? extends RuntimeException> exceptionMapper) {
+        Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
+        if (isSuccess()) {
+            return getData();
+        }
+        throw exceptionMapper.apply(getError());
+    }
+
+    /**
+     * Executes the provided consumer if this is a success.
+     * Returns this DoubleResult for chaining.
+     *
+     * @param consumer the action to execute on the success value
+     * @return this DoubleResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public DoubleResult<E> ifSuccess(DoubleConsumer consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (isSuccess()) {
+            consumer.accept(getData());
+        }
+        return this;
+    }
+
+    /**
+     * Executes the provided consumer if this is a failure.
+     * Returns this DoubleResult for chaining.
+     *
+     * @param consumer the action to execute on the error value
+     * @return this DoubleResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public DoubleResult<E> ifFailure(Consumer<E> consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (!isSuccess()) {
+            consumer.accept(getError());
+        }
+        return this;
+    }
+
+    /**
+     * Recovers from a failure by applying the recovery function to the error.
+     * If this is a success, returns this DoubleResult unchanged.
+     *
+     * @param recovery the function to convert the error to a success value
+     * @return a successful DoubleResult with the recovered value, or this DoubleResult if already successful
+     * @throws NullPointerException if recovery is null
+     */
+    public DoubleResult<E> recover(ToDoubleFunction<E> recovery) {
+        Objects.requireNonNull(recovery, "recovery cannot be null");
+        return isSuccess() ? this : DoubleResult.success(recovery.applyAsDouble(getError()));
+    }
+
+    /**
+     * Combines two DoubleResults using the provided combiner function.
+     * Returns a failure if either DoubleResult is a failure.
+     * If both are failures, returns the first failure.
+     *
+     * @param <E>      the type of the error (must be the same for both results)
+     * @param r1       the first DoubleResult
+     * @param r2       the second DoubleResult
+     * @param combiner the function to combine the success values
+     * @return a DoubleResult containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <E> DoubleResult<E> combine(DoubleResult<E> r1, DoubleResult<E> r2, DoubleBinaryOperator combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess()) {
+            return DoubleResult.success(combiner.applyAsDouble(r1.getData(), r2.getData()));
+        }
+        return r1.isSuccess() ? r2 : r1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DoubleResult<?> that = (DoubleResult<?>) o;
+        return Double.compare(getData(), that.getData()) == 0 && Objects.equals(getError(), that.getError());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(getData()) + Objects.hashCode(getError());
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "Success(" + getData() + ")" : "Failure(" + getError() + ")";
+    }
+
+    /**
+     * A successful DoubleResult, holding the unboxed value.
+     */
+    private static final class Success<E> extends DoubleResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final double data;
+
+        private Success(double data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public double getData() {
+            return data;
+        }
+
+        @Override
+        public E getError() {
+            return null;
+        }
+    }
+
+    /**
+     * A failed DoubleResult, holding the error.
+     */
+    private static final class Failure<E> extends DoubleResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E error;
+
+        private Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public double getData() {
+            return 0;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
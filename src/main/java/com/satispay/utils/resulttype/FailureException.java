@@ -0,0 +1,74 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+
+/**
+ * Signals an expected failure by throwing, from code that cannot return a {@link Result}.
+ *
+ * <p>A FailureException carries the error value itself. When it is thrown by a supplier or an
+ * operation of a {@link LazyResult}, {@link LazyResult#evaluate()} fails with that error directly,
+ * as if a failed Result had been returned at that point of the chain: the error mapper is not
+ * called, and operations such as {@code mapError} and {@code recover} chained afterwards apply as
+ * usual. The error must therefore be of the error type in effect where the exception is thrown.
+ *
+ * <p>The exception captures no stack trace and records no suppressed exceptions, so creating one
+ * costs about as much as any small object and a single instance can be shared: for constant
+ * errors, preallocate the exception and throw the same instance every time.
+ *
+ * <p>The error is serialized with the exception, so an exception that may be serialized, for
+ * instance sent to a remote caller, must carry a {@link java.io.Serializable} error; otherwise
+ * serializing it fails with a {@link java.io.NotSerializableException}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * private static final FailureException NOT_FOUND = FailureException.of("Merchant not found");
+ *
+ * LazyResult<Merchant, String> merchant = LazyResult.create(
+ *     () -> {
+ *         Merchant found = legacyDirectory.lookup(merchantId);
+ *         if (found == null) {
+ *             throw NOT_FOUND;
+ *         }
+ *         return found;
+ *     },
+ *     ex -> "Directory unavailable: " + ex.getMessage()
+ * );
+ * }</pre>
+ */
+public final class FailureException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Object error;
+
+    private FailureException(Object error) {
+        super(null, null, false, false);
+        this.error = error;
+    }
+
+    /**
+     * Creates an exception carrying the given error.
+     *
+     * @param error the error the evaluation fails with, must not be null
+     * @return a new FailureException
+     * @throws NullPointerException if error is null
+     */
+    public static FailureException of(Object error) {
+        return new FailureException(Objects.requireNonNull(error, "error cannot be null"));
+    }
+
+    /**
+     * Returns the error carried by this exception.
+     *
+     * @param <E> the type of the error, as expected by the caller
+     * @return the error
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E getError() {
+        return (E) error;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.valueOf(error);
+    }
+}
@@ -0,0 +1,28 @@
+package com.satispay.utils.resulttype;
+
+/**
+ * Represents a function that accepts five arguments and produces a result.
+ * This is the five-arity specialization of {@link java.util.function.Function}.
+ *
+ * @param <T1> the type of the first argument
+ * @param <T2> the type of the second argument
+ * @param <T3> the type of the third argument
+ * @param <T4> the type of the fourth argument
+ * @param <T5> the type of the fifth argument
+ * @param <R>  the type of the result
+ */
+@FunctionalInterface
+public interface Function5<T1, T2, T3, T4, T5, R> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first argument
+     * @param t2 the second argument
+     * @param t3 the third argument
+     * @param t4 the fourth argument
+     * @param t5 the fifth argument
+     * @return the function result
+     */
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
+}
@@ -0,0 +1,239 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A timer that tracks a large number of pending timeouts at a constant cost per timeout.
+ *
+ * <p>Timeouts are hashed into a circular wheel of buckets, one bucket per tick. A single daemon
+ * thread advances the wheel once per tick and runs the timeouts of the current bucket that are
+ * due, so scheduling and cancelling are O(1) and lock-free for the callers, unlike the O(log n)
+ * heap of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}. The price is precision:
+ * a timeout fires up to one tick late.
+ *
+ * <p>Timer tasks run on the timer thread and must be short and non-blocking. A task that throws,
+ * even an {@link Error}, is reported to the uncaught exception handler of the timer thread, which
+ * keeps running the other tasks.
+ */
+final class HashedWheelTimer {
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Timeout[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final String threadName;
+    private volatile long startTime;
+    private long tick;
+
+    HashedWheelTimer(long tickNanos, int wheelSize, String threadName) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickNanos = tickNanos;
+        this.wheel = new Timeout[wheelSize];
+        this.mask = wheelSize - 1;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Returns the timer shared by the library, whose thread is started on first use.
+     */
+    static HashedWheelTimer shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Schedules the task to run once, after the given delay.
+     *
+     * @param task       the task to run on the timer thread
+     * @param delayNanos the delay in nanoseconds
+     * @return a handle to cancel the timeout
+     */
+    Timeout schedule(Runnable task, long delayNanos) {
+        start();
+        long deadline = System.nanoTime() - startTime + Math.max(delayNanos, 0);
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void start() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            // Zero marks a timer that is not started yet
+            long now = System.nanoTime();
+            startTime = now == 0 ? 1 : now;
+            Thread worker = new Thread(this::run, threadName);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        while (startTime == 0) {
+            Thread.yield();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            long now = awaitNextTick();
+            removeCancelled();
+            transferPending();
+            expire(wheel[(int) (tick & mask)], now);
+            tick++;
+        }
+    }
+
+    /**
+     * Parks until the end of the current tick and returns the time elapsed since the start.
+     */
+    private long awaitNextTick() {
+        long tickEnd = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            long sleepNanos = tickEnd - now;
+            if (sleepNanos <= 0) {
+                return now;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket >= 0) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // A timeout already due goes to the current bucket, expired during this tick
+            int bucket = (int) (Math.max(expiryTick, tick) & mask);
+            link(timeout, bucket);
+        }
+    }
+
+    private void expire(Timeout head, long now) {
+        Timeout timeout = head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.isCancelled()) {
+                unlink(timeout);
+            } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                unlink(timeout);
+                timeout.expire();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout timeout, int bucket) {
+        Timeout head = wheel[bucket];
+        timeout.bucket = bucket;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        wheel[bucket] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    /**
+     * A task scheduled on the timer. The links are only read and written by the timer thread.
+     */
+    static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+        private int bucket = -1;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, unless its task already ran.
+         *
+         * @return true if the task will not run
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return state.get() == CANCELLED;
+            }
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(WAITING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Throwable ex) {
+                    // A failing task must not stop the timer thread: report it as an uncaught exception would be
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+                }
+            }
+        }
+    }
+
+    private static final class Shared {
+        private static final HashedWheelTimer INSTANCE =
+                new HashedWheelTimer(DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE, "lazy-result-timer");
+    }
+}
@@ -0,0 +1,126 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures when a {@link LazyResult} is hedged: evaluated again, concurrently, because the
+ * evaluations already started are taking longer than usual.
+ *
+ * <p>The delay before each hedge is either fixed or adaptive. An adaptive delay is the given
+ * percentile of the latencies observed by the hedged LazyResult, so only the evaluations slower
+ * than that percentile are duplicated: hedging at the 95th percentile costs about 5% extra load.
+ * Until {@value #MIN_SAMPLES} latencies were observed, the initial delay is used instead.
+ *
+ * <p>HedgePolicy is immutable: each {@code with} method returns a new policy. Unless configured
+ * otherwise, at most one hedge is started and the initial delay of an adaptive policy is
+ * 100 milliseconds.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * HedgePolicy policy = HedgePolicy.atPercentile(95)
+ *     .withInitialDelay(Duration.ofMillis(20))
+ *     .withMaxHedges(2);
+ *
+ * LazyResult<Profile, String> profile = readProfile(userId).hedged(policy, replicaExecutor);
+ * }</pre>
+ *
+ * @see LazyResult#hedged(HedgePolicy, java.util.concurrent.Executor)
+ */
+public final class HedgePolicy {
+    /**
+     * Latencies observed before an adaptive delay replaces the initial delay.
+     */
+    static final int MIN_SAMPLES = 100;
+
+    private static final long DEFAULT_INITIAL_DELAY_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final long initialDelayNanos;
+    private final double percentile;
+    private final int maxHedges;
+
+    private HedgePolicy(long initialDelayNanos, double percentile, int maxHedges) {
+        this.initialDelayNanos = initialDelayNanos;
+        this.percentile = percentile;
+        this.maxHedges = maxHedges;
+    }
+
+    /**
+     * Creates a policy that hedges an evaluation still running after the given delay.
+     *
+     * @param delay the delay before each hedge, not negative
+     * @return a new HedgePolicy
+     * @throws NullPointerException     if delay is null
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public static HedgePolicy afterDelay(Duration delay) {
+        return new HedgePolicy(nonNegativeNanos(delay, "delay"), Double.NaN, 1);
+    }
+
+    /**
+     * Creates a policy that hedges an evaluation still running after the given percentile of the
+     * latencies observed by the hedged LazyResult.
+     *
+     * @param percentile the percentile of the latency to hedge after, between 0 and 100 exclusive
+     * @return a new HedgePolicy
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public static HedgePolicy atPercentile(double percentile) {
+        if (!(percentile > 0 && percentile < 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100 exclusive");
+        }
+        return new HedgePolicy(DEFAULT_INITIAL_DELAY_NANOS, percentile, 1);
+    }
+
+    /**
+     * Returns a policy using the given delay until enough latencies were observed for an adaptive
+     * delay; for a fixed delay policy, returns a policy with the given delay.
+     *
+     * @param initialDelay the delay before each hedge until the percentile is known, not negative
+     * @return a new HedgePolicy
+     * @throws NullPointerException     if initialDelay is null
+     * @throws IllegalArgumentException if initialDelay is negative
+     */
+    public HedgePolicy withInitialDelay(Duration initialDelay) {
+        return new HedgePolicy(nonNegativeNanos(initialDelay, "initialDelay"), percentile, maxHedges);
+    }
+
+    /**
+     * Returns a policy starting at most the given number of hedges per evaluation, each one after
+     * another delay.
+     *
+     * @param maxHedges the maximum number of duplicate evaluations, must be positive
+     * @return a new HedgePolicy
+     * @throws IllegalArgumentException if maxHedges is not positive
+     */
+    public HedgePolicy withMaxHedges(int maxHedges) {
+        if (maxHedges < 1) {
+            throw new IllegalArgumentException("maxHedges must be positive");
+        }
+        return new HedgePolicy(initialDelayNanos, percentile, maxHedges);
+    }
+
+    long initialDelayNanos() {
+        return initialDelayNanos;
+    }
+
+    boolean isAdaptive() {
+        return !Double.isNaN(percentile);
+    }
+
+    double percentile() {
+        return percentile;
+    }
+
+    int maxHedges() {
+        return maxHedges;
+    }
+
+    private static long nonNegativeNanos(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " cannot be null");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " cannot be negative");
+        }
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,191 @@
+package com.satispay.utils.resulttype;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a {@link LazyResult} on an executor and starts duplicate evaluations when it runs late,
+ * as configured by a {@link HedgePolicy}.
+ *
+ * <p>The calling thread waits for the first success. When the delay elapses first, another
+ * evaluation is started, up to the maximum number of hedges. As soon as one evaluation succeeds
+ * its Result is returned and the others are cancelled with an interrupt. A failure does not start
+ * a hedge: when every evaluation started so far failed, the failure of the earliest one is returned.
+ *
+ * <p>The latency of the first evaluation of each call is recorded in a {@link LatencyHistogram},
+ * from which an adaptive policy derives its delay; the percentile is recomputed every
+ * {@value #REFRESH_INTERVAL} samples rather than on every call. Only first evaluations are recorded,
+ * up to their completion or cancellation, so that successful hedges do not pull the percentile,
+ * and with it the delay, down.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see LazyResult#hedged(HedgePolicy, Executor)
+ */
+final class Hedger<T, E> implements Supplier<Result<T, E>> {
+    private static final int REFRESH_INTERVAL = 64;
+
+    private final LazyResult<T, E> lazyResult;
+    private final HedgePolicy policy;
+    private final Executor executor;
+    private final Function<Exception, E> errorMapper;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private volatile long delayNanos;
+
+    Hedger(LazyResult<T, E> lazyResult, HedgePolicy policy, Executor executor, Function<Exception, E> errorMapper) {
+        this.lazyResult = Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        this.policy = Objects.requireNonNull(policy, "policy cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        this.errorMapper = Objects.requireNonNull(errorMapper, "errorMapper cannot be null");
+        this.delayNanos = policy.initialDelayNanos();
+    }
+
+    /**
+     * Returns the delay before the next hedge.
+     */
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    @Override
+    public Result<T, E> get() {
+        Evaluation evaluation = new Evaluation(policy.maxHedges() + 1);
+        try {
+            try {
+                evaluation.start();
+            } catch (RejectedExecutionException ex) {
+                return Result.failure(errorMapper.apply(ex));
+            }
+            while (true) {
+                boolean canHedge = evaluation.attempts.size() <= policy.maxHedges();
+                Result<T, E> result = canHedge ? evaluation.await(delayNanos) : evaluation.await(Long.MAX_VALUE);
+                if (result != null) {
+                    return result;
+                }
+                try {
+                    evaluation.start();
+                } catch (RejectedExecutionException ex) {
+                    // A rejected hedge leaves the evaluations already running to finish
+                    return evaluation.await(Long.MAX_VALUE);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Result.failure(errorMapper.apply(ex));
+        } finally {
+            evaluation.cancel();
+        }
+    }
+
+    private void record(long latencyNanos) {
+        latencies.record(latencyNanos);
+        if (policy.isAdaptive() && latencies.samples() >= HedgePolicy.MIN_SAMPLES
+                && latencies.samples() % REFRESH_INTERVAL == 0) {
+            delayNanos = latencies.percentile(policy.percentile());
+        }
+    }
+
+    /**
+     * The evaluations started for one call, racing to complete the outcome.
+     */
+    private final class Evaluation {
+        private final List<FutureTask<?>> attempts;
+        private final Result<?, ?>[] failures;
+        private final AtomicInteger running = new AtomicInteger();
+        private final CompletableFuture<Result<T, E>> outcome = new CompletableFuture<>();
+
+        private Evaluation(int maxAttempts) {
+            this.attempts = new ArrayList<>(maxAttempts);
+            this.failures = new Result<?, ?>[maxAttempts];
+        }
+
+        /**
+         * Starts one more evaluation.
+         *
+         * @throws RejectedExecutionException if the executor rejected it
+         */
+        private void start() {
+            int index = attempts.size();
+            FutureTask<?> attempt = new FutureTask<>(() -> run(index), null);
+            running.incrementAndGet();
+            try {
+                executor.execute(attempt);
+            } catch (RejectedExecutionException ex) {
+                running.decrementAndGet();
+                throw ex;
+            }
+            attempts.add(attempt);
+        }
+
+        private void run(int index) {
+            long start = System.nanoTime();
+            try {
+                Result<T, E> result;
+                try {
+                    result = lazyResult.evaluate();
+                } finally {
+                    if (index == 0) {
+                        record(System.nanoTime() - start);
+                    }
+                }
+                if (result.isSuccess()) {
+                    outcome.complete(result);
+                    return;
+                }
+                failures[index] = result;
+                if (running.decrementAndGet() == 0) {
+                    outcome.complete(earliestFailure());
+                }
+            } catch (RuntimeException | Error ex) {
+                outcome.completeExceptionally(ex);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Result<T, E> earliestFailure() {
+            for (Result<?, ?> failure : failures) {
+                if (failure != null) {
+                    return (Result<T, E>) failure;
+                }
+            }
+            throw new IllegalStateException("No evaluation failed");
+        }
+
+        /**
+         * Waits up to the given time for the outcome, returning null if it is not decided yet.
+         */
+        private Result<T, E> await(long timeoutNanos) throws InterruptedException {
+            try {
+                if (timeoutNanos == Long.MAX_VALUE) {
+                    return outcome.get();
+                }
+                return outcome.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                return null;
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw (Error) cause;
+            }
+        }
+
+        private void cancel() {
+            for (FutureTask<?> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.satispay.utils.resulttype;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Result} specialized for {@code int} success values.
+ * The success value is stored unboxed, so numeric pipelines built from
+ * {@link #map}, {@link #flatMap} and the {@code mapToXxx} methods never allocate a
+ * {@code Integer} on the success path.
+ *
+ * <p>An IntResult is immutable and can be in one of two states:
+ * <ul>
+ *   <li>Success - contains an {@code int} value</li>
+ *   <li>Failure - contains a non-null error of type E</li>
+ * </ul>
+ *
+ * <p>As with {@link Result}, each state is a subclass holding a single field, the value or the
+ * error, so an IntResult takes 16 bytes on a 64-bit JVM with compressed references.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * IntResult<String> result = IntResult.success(42)
+ *     .map(i -> i * 2);
+ *
+ * Result<String, String> formatted = result.mapToObj(v -> "Value: " + v);
+ * }</pre>
+ *
+ * @param <E> the type of the error value
+ * @see Result#mapToInt
+ */
+public abstract class IntResult<E> implements Serializable {
+    private static final long serialVersionUID = 2L;
+
+    private IntResult() {
+    }
+
+    /**
+     * Creates a successful IntResult containing the given value.
+     *
+     * @param <E>  the type of the error value
+     * @param data the success value
+     * @return a successful IntResult containing the given value
+     */
+    public static <E> IntResult<E> success(int data) {
+        return new Success<>(data);
+    }
+
+    /**
+     * Creates a failed IntResult containing the given error.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value, must not be null
+     * @return a failed IntResult containing the given error
+     * @throws NullPointerException if error is null
+     */
+    public static <E> IntResult<E> failure(E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        return new Failure<>(error);
+    }
+
+    /**
+     * Checks if this IntResult represents a success.
+     *
+     * @return true if this is a success, false if this is a failure
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns the success value.
+     * Returns 0 if this is a failure.
+     *
+     * @return the success value, or 0 if this is a failure
+     */
+    public abstract int getData();
+
+    /**
+     * Returns the error value.
+     * Returns null if this is a success.
+     *
+     * @return the error value, or null if this is a success
+     */
+    public abstract E getError();
+
+    // Functional methods
+
+    /**
+     * Converts the success value to an OptionalInt.
+     * Returns an empty OptionalInt if this is a failure.
+     *
+     * @return an OptionalInt containing the success value, or empty if this is a failure
+     */
+    public OptionalInt toOptional() {
+        return isSuccess() ? OptionalInt.of(getData()) : OptionalInt.empty();
+    }
+
+    /**
+     * Converts this IntResult into a boxed {@link Result}.
+     *
+     * @return a Result containing the boxed success value, or a failure with the same error
+     */
+    public Result<Integer, E> boxed() {
+        return isSuccess() ? Result.success(getData()) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using the provided mapper function.
+     * If this is a failure, returns this same instance without allocating.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * IntResult<String> result = IntResult.success(42);
+     * IntResult<String> mapped = result.map(i -> i * 2);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return an IntResult containing the transformed value, or the same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public IntResult<E> map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getData())) : this;
+    }
+
+    /**
+     * Transforms the success value into a {@code long} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return a LongResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public LongResult<E> mapToLong(IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getData())) : LongResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into a {@code double} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return a DoubleResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public DoubleResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getData())) : DoubleResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into an object using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param <U>    the type of the transformed value
+     * @param mapper the function to transform the success value
+     * @return a Result containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> Result<U, E> mapToObj(IntFunction<U> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? Result.success(mapper.apply(getData())) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using a function that returns an IntResult.
+     * Useful for chaining numeric operations that may fail.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * IntResult<String> checked = result.flatMap(i -> i > 100 ? IntResult.failure("Too large") : IntResult.success(i * 2));
+     * }</pre>
+     *
+     * @param mapper the function that returns an IntResult
+     * @return the IntResult returned by the mapper, or this same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public IntResult<E> flatMap(IntFunction<IntResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(getData()) : this;
+    }
+
+    /**
+     * Transforms the error value using the provided mapper function.
+     * If this is a success, returns this same instance without allocating.
+     *
+     * @param <E2>   the type of the transformed error
+     * @param mapper the function to transform the error value
+     * @return an IntResult with the transformed error, or the same success
+     * @throws NullPointerException if mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    public <E2> IntResult<E2> mapError(Function<E, E2> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? (IntResult<E2>) this : IntResult.failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Returns the success value or the provided default value if this is a failure.
+     *
+     * @param defaultValue the value to return if this is a failure
+     * @return the success value, or the default value if this is a failure
+     */
+    public int orElse(int defaultValue) {
+        return isSuccess() ? getData() : defaultValue;
+    }
+
+    /**
+     * Returns the success value or throws an exception created by the provided function.
+     *
+     * @param exceptionMapper the function that creates an exception from the error
+     * @return the success value
+     * @throws RuntimeException      the exception created by the mapper if this is a failure
+     * @throws NullPointerException if exceptionMapper is null
+     */
+    public int orElseThrow(Function<E, ? extends RuntimeException> exceptionMapper) {
+        Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
+        if (isSuccess()) {
+            return getData();
+        }
+        throw exceptionMapper.apply(getError());
+    }
+
+    /**
+     * Executes the provided consumer if this is a success.
+     * Returns this IntResult for chaining.
+     *
+     * @param consumer the action to execute on the success value
+     * @return this IntResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public IntResult<E> ifSuccess(IntConsumer consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (isSuccess()) {
+            consumer.accept(getData());
+        }
+        return this;
+    }
+
+    /**
+     * Executes the provided consumer if this is a failure.
+     * Returns this IntResult for chaining.
+     *
+     * @param consumer the action to execute on the error value
+     * @return this IntResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public IntResult<E> ifFailure(Consumer<E> consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (!isSuccess()) {
+            consumer.accept(getError());
+        }
+        return this;
+    }
+
+    /**
+     * Recovers from a failure by applying the recovery function to the error.
+     * If this is a success, returns this IntResult unchanged.
+     *
+     * @param recovery the function to convert the error to a success value
+     * @return a successful IntResult with the recovered value, or this IntResult if already successful
+     * @throws NullPointerException if recovery is null
+     */
+    public IntResult<E> recover(ToIntFunction<E> recovery) {
+        Objects.requireNonNull(recovery, "recovery cannot be null");
+        return isSuccess() ? this : IntResult.success(recovery.applyAsInt(getError()));
+    }
+
+    /**
+     * Combines two IntResults using the provided combiner function.
+     * Returns a failure if either IntResult is a failure.
+     * If both are failures, returns the first failure.
+     *
+     * @param <E>      the type of the error (must be the same for both results)
+     * @param r1       the first IntResult
+     * @param r2       the second IntResult
+     * @param combiner the function to combine the success values
+     * @return an IntResult containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <E> IntResult<E> combine(IntResult<E> r1, IntResult<E> r2, IntBinaryOperator combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess()) {
+            return IntResult.success(combiner.applyAsInt(r1.getData(), r2.getData()));
+        }
+        return r1.isSuccess() ? r2 : r1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IntResult<?> that = (IntResult<?>) o;
+        return getData() == that.getData() && Objects.equals(getError(), that.getError());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(getData()) + Objects.hashCode(getError());
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "Success(" + getData() + ")" : "Failure(" + getError() + ")";
+    }
+
+    /**
+     * A successful IntResult, holding the unboxed value.
+     */
+    private static final class Success<E> extends IntResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final int data;
+
+        private Success(int data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public int getData() {
+            return data;
+        }
+
+        @Override
+        public E getError() {
+            return null;
+        }
+    }
+
+    /**
+     * A failed IntResult, holding the error.
+     */
+    private static final class Failure<E> extends IntResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E error;
+
+        private Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public int getData() {
+            return 0;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
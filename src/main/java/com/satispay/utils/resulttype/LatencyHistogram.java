@@ -0,0 +1,86 @@
+package com.satispay.utils.resulttype;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of recent latencies, answering percentile queries within about 12%.
+ *
+ * <p>Latencies are counted in log-linear buckets: each power of two is split into 8 linear
+ * sub-buckets, so 488 counters cover every positive {@code long} number of nanoseconds. To follow
+ * changes in latency, every {@value #DECAY_INTERVAL} samples all the counters are halved, which
+ * gives the older samples an exponentially decaying weight.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int DECAY_INTERVAL = 1024;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+
+    /**
+     * Records a latency in nanoseconds; negative latencies are recorded as zero.
+     */
+    void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(nanos, 0)));
+        if (samples.incrementAndGet() % DECAY_INTERVAL == 0) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.getAndUpdate(i, count -> count >>> 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of samples recorded, before any decay.
+     */
+    long samples() {
+        return samples.get();
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recent latencies, or -1 if none was recorded.
+     *
+     * @param percentile the percentile, between 0 and 100
+     */
+    long percentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int index(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        // For the last bucket the shift wraps to Long.MIN_VALUE, and the bound to Long.MAX_VALUE
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.satispay.utils.resulttype;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executors for evaluating {@link LazyResult}s asynchronously or concurrently.
+ *
+ * <p>This library is packaged as a multi-release JAR. On Java 21 and later this class is replaced
+ * by a version whose {@link #defaultExecutor()} starts one virtual thread per task, so thousands of
+ * concurrent blocking evaluations need no sized thread pool. On earlier Java versions the
+ * common fork-join pool is used, as {@link java.util.concurrent.CompletableFuture} does by default.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * LazyResult<Checkout, String> checkout = LazyResult.zip(
+ *     findUser(userId),
+ *     findMerchant(merchantId),
+ *     Checkout::new,
+ *     LazyExecutors.defaultExecutor()
+ * );
+ * }</pre>
+ */
+public final class LazyExecutors {
+
+    private LazyExecutors() {
+    }
+
+    /**
+     * Returns the executor used when no executor is given: one virtual thread per task on
+     * Java 21 and later, the common fork-join pool otherwise.
+     *
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Checks if {@link #defaultExecutor()} runs each task on its own virtual thread.
+     *
+     * @return true on Java 21 and later, false otherwise
+     */
+    public static boolean usesVirtualThreads() {
+        return false;
+    }
+}
@@ -1,6 +1,18 @@
 package com.satispay.utils.resulttype;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,10 +25,20 @@ import java.util.function.Supplier;
  * <p>A LazyResult wraps a supplier that may throw an exception, and an error mapper
  * that converts exceptions to error values. The computation is not executed until
  * {@link #evaluate()} is called.
+ * Expected failures are cheaper returned than thrown: a supplier passed to
+ * {@link #fromResultSupplier(Supplier, Function)}, or a function passed to
+ * {@link #flatMapResult(Function)}, returns them as a failed Result, leaving the error
+ * mapper to the unexpected exceptions.
  *
  * <p>LazyResult is immutable and thread-safe. Each operation (map, flatMap, etc.)
  * returns a new LazyResult without modifying the original.
  *
+ * <p>Internally a LazyResult is a list of operations linked back to its source.
+ * {@link #evaluate()} runs that list in a loop, and runs the LazyResults returned by
+ * {@link #flatMap(Function)} on an explicit stack, so the evaluation uses a constant
+ * amount of call stack however long the chain grows. Consecutive {@code map} calls, and
+ * consecutive {@code mapError} calls, are fused into a single operation when the chain is built.
+ *
  * <p>Example usage:
  * <pre>{@code
  * LazyResult<Integer, String> result = LazyResult.create(
@@ -38,12 +60,71 @@ import java.util.function.Supplier;
  * @see Result
  */
 public class LazyResult<T, E> {
-    private final Supplier<T> supplier;
-    private final Function<Exception, E> errorMapper;
+    // Operation kinds
+    private static final int SOURCE = 0;
+    private static final int RESULT_SOURCE = 1;
+    private static final int CONSTANT = 2;
+    private static final int MAP = 3;
+    private static final int FUSED_MAP = 4;
+    private static final int PEEK = 5;
+    private static final int MAP_ERROR = 6;
+    private static final int FUSED_MAP_ERROR = 7;
+    private static final int FLAT_MAP = 8;
+    private static final int RECOVER = 9;
+    private static final int FLAT_MAP_RESULT = 10;
+
+    // Evaluation states
+    private static final int SUCCEEDED = 0;
+    private static final int FAILED = 1;
+    private static final int THREW = 2;
+
+    /**
+     * Maximum number of consecutive map (or mapError) functions fused into a single operation,
+     * which bounds the array copied when one more function is appended.
+     */
+    private static final int MAX_FUSED_OPERATIONS = 8;
+
+    /**
+     * The valueless success, whose null value is carried through the stages that do not map it.
+     */
+    private static final Result<?, ?> UNIT = Result.unit();
+
+    private final LazyResult<?, ?> previous;
+    private final int kind;
+    private final Object operation;
+    private final Function<Exception, ?> errorMapper;
+    private final int length;
+    private volatile LazyResult<?, ?>[] plan;
 
-    private LazyResult(Supplier<T> supplier, Function<Exception, E> errorMapper) {
-        this.supplier = supplier;
+    private LazyResult(LazyResult<?, ?> previous, int kind, Object operation, Function<Exception, ?> errorMapper) {
+        this.previous = previous;
+        this.kind = kind;
+        this.operation = operation;
         this.errorMapper = errorMapper;
+        this.length = previous == null ? 1 : previous.length + 1;
+    }
+
+    private <X, E2> LazyResult<X, E2> then(int kind, Object operation) {
+        return new LazyResult<>(this, kind, operation, null);
+    }
+
+    /**
+     * Appends a function of the given kind, fusing it with this operation when this operation
+     * is a function of the same kind, so consecutive maps run as a single step.
+     */
+    private <X, E2> LazyResult<X, E2> thenFused(int single, int fused, Object function) {
+        if (kind == single) {
+            return new LazyResult<>(previous, fused, new Object[]{operation, function}, null);
+        }
+        if (kind == fused) {
+            Object[] functions = (Object[]) operation;
+            if (functions.length < MAX_FUSED_OPERATIONS) {
+                Object[] appended = Arrays.copyOf(functions, functions.length + 1);
+                appended[functions.length] = function;
+                return new LazyResult<>(previous, fused, appended, null);
+            }
+        }
+        return then(single, function);
     }
 
     /**
@@ -68,26 +149,291 @@ public class LazyResult<T, E> {
     public static <T, E> LazyResult<T, E> create(Supplier<T> supplier, Function<Exception, E> errorMapper) {
         Objects.requireNonNull(supplier, "supplier cannot be null");
         Objects.requireNonNull(errorMapper, "errorMapper cannot be null");
-        return new LazyResult<>(supplier, errorMapper);
+        return new LazyResult<>(null, SOURCE, supplier, errorMapper);
+    }
+
+    /**
+     * Creates a LazyResult from an already computed Result.
+     * Evaluation starts from the given Result without calling a supplier, so a constant
+     * source costs no exception handling; the error mapper is only used for exceptions
+     * thrown by the operations chained afterwards.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Config, String> config = LazyResult.of(
+     *     Result.success(defaultConfig),
+     *     ex -> "Invalid config: " + ex.getMessage()
+     * ).map(Config::validate);
+     * }</pre>
+     *
+     * @param <T>         the type of the success value
+     * @param <E>         the type of the error value
+     * @param result      the Result every evaluation starts from, must not be null
+     * @param errorMapper the function to map exceptions to errors, must not be null
+     * @return a new LazyResult starting from the given Result
+     * @throws NullPointerException if result or errorMapper is null
+     */
+    public static <T, E> LazyResult<T, E> of(Result<T, E> result, Function<Exception, E> errorMapper) {
+        Objects.requireNonNull(result, "result cannot be null");
+        Objects.requireNonNull(errorMapper, "errorMapper cannot be null");
+        return new LazyResult<>(null, CONSTANT, result, errorMapper);
+    }
+
+    /**
+     * Creates a LazyResult from a supplier that returns a Result.
+     * The supplier reports expected failures by returning {@link Result#failure(Object)} instead of
+     * throwing, so they cost no exception construction or stack walking; the error mapper is only
+     * used for exceptions the supplier, or an operation chained afterwards, throws unexpectedly.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Amount, String> amount = LazyResult.fromResultSupplier(
+     *     () -> request.amount() > 0
+     *         ? Result.success(new Amount(request.amount()))
+     *         : Result.failure("Amount must be positive"),
+     *     ex -> "Invalid request: " + ex.getMessage()
+     * );
+     * }</pre>
+     *
+     * @param <T>         the type of the success value
+     * @param <E>         the type of the error value
+     * @param supplier    the computation returning a Result, must not be null
+     * @param errorMapper the function to map exceptions to errors, must not be null
+     * @return a new LazyResult wrapping the computation
+     * @throws NullPointerException if supplier or errorMapper is null
+     */
+    public static <T, E> LazyResult<T, E> fromResultSupplier(Supplier<Result<T, E>> supplier,
+                                                             Function<Exception, E> errorMapper) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        Objects.requireNonNull(errorMapper, "errorMapper cannot be null");
+        return new LazyResult<>(null, RESULT_SOURCE, supplier, errorMapper);
     }
 
     /**
      * Evaluates the lazy computation and returns a Result.
-     * Any exception thrown by the supplier will be caught and mapped to an error.
+     * Any exception thrown by the supplier will be caught and mapped to an error,
+     * except a {@link FailureException}, which fails with the error it carries.
      *
      * <p>Note: Each call to evaluate() will re-execute the computation.
-     * Results are not cached.
+     * Results are not cached, unless this LazyResult was created by {@link #memoize()}.
      *
      * @return a Result containing either the computed value or an error
      */
+    @SuppressWarnings("unchecked")
     public Result<T, E> evaluate() {
+        if (kind == CONSTANT) {
+            return (Result<T, E>) operation;
+        }
+        if (kind == RESULT_SOURCE) {
+            return evaluateResultSource();
+        }
+        LazyResult<?, ?>[] plan = plan();
+        LazyResult<?, ?>[] rootPlan = plan;
+        Deque<Frame> frames = null;
+        int index = 0;
+        int state = SUCCEEDED;
+        Object value = null;
+        boolean unit = false;
+        Object error = null;
+        Exception thrown = null;
+
+        while (true) {
+            if (index == plan.length) {
+                if (frames == null || frames.isEmpty()) {
+                    break;
+                }
+                Frame frame = frames.pop();
+                plan = frame.plan;
+                index = frame.index;
+                continue;
+            }
+            LazyResult<?, ?> node = plan[index];
+            int position = index++;
+            if (node.kind == CONSTANT) {
+                Result<Object, Object> result = (Result<Object, Object>) node.operation;
+                if (result.isSuccess()) {
+                    value = result.getData();
+                    unit = result == UNIT;
+                } else {
+                    state = FAILED;
+                    error = result.getError();
+                }
+                continue;
+            }
+            try {
+                switch (node.kind) {
+                    case SOURCE:
+                        value = ((Supplier<Object>) node.operation).get();
+                        unit = false;
+                        break;
+                    case RESULT_SOURCE:
+                        Result<Object, Object> result = ((Supplier<Result<Object, Object>>) node.operation).get();
+                        if (result.isSuccess()) {
+                            value = result.getData();
+                            unit = result == UNIT;
+                        } else {
+                            state = FAILED;
+                            error = result.getError();
+                        }
+                        break;
+                    case MAP:
+                        if (state == SUCCEEDED) {
+                            value = ((Function<Object, Object>) node.operation).apply(value);
+                            unit = false;
+                        }
+                        break;
+                    case FUSED_MAP:
+                        if (state == SUCCEEDED) {
+                            for (Object mapper : (Object[]) node.operation) {
+                                value = ((Function<Object, Object>) mapper).apply(value);
+                            }
+                            unit = false;
+                        }
+                        break;
+                    case PEEK:
+                        if (state == SUCCEEDED) {
+                            ((Consumer<Object>) node.operation).accept(value);
+                        }
+                        break;
+                    case MAP_ERROR:
+                        if (state == FAILED) {
+                            error = ((Function<Object, Object>) node.operation).apply(error);
+                        }
+                        break;
+                    case FUSED_MAP_ERROR:
+                        if (state == FAILED) {
+                            for (Object mapper : (Object[]) node.operation) {
+                                error = ((Function<Object, Object>) mapper).apply(error);
+                            }
+                        }
+                        break;
+                    case FLAT_MAP:
+                        if (state == SUCCEEDED) {
+                            if (TimeoutGuard.deadlineExceeded()) {
+                                throw TimeoutGuard.DEADLINE_EXCEEDED;
+                            }
+                            LazyResult<?, ?> inner = ((Function<Object, LazyResult<?, ?>>) node.operation).apply(value);
+                            LazyResult<?, ?>[] innerPlan = inner.plan();
+                            if (frames == null) {
+                                frames = new ArrayDeque<>();
+                            }
+                            frames.push(new Frame(plan, index));
+                            plan = innerPlan;
+                            index = 0;
+                        }
+                        break;
+                    case FLAT_MAP_RESULT:
+                        if (state == SUCCEEDED) {
+                            Result<Object, Object> mapped = ((Function<Object, Result<Object, Object>>) node.operation)
+                                    .apply(value);
+                            if (mapped.isSuccess()) {
+                                value = mapped.getData();
+                                unit = mapped == UNIT;
+                            } else {
+                                state = FAILED;
+                                value = null;
+                                error = mapped.getError();
+                            }
+                        }
+                        break;
+                    case RECOVER:
+                        if (state == FAILED) {
+                            value = ((Function<Object, Object>) node.operation).apply(error);
+                            unit = false;
+                            state = SUCCEEDED;
+                            error = null;
+                        } else if (state == THREW) {
+                            Object mapped = mapException(plan, position, thrown);
+                            state = SUCCEEDED;
+                            thrown = null;
+                            value = ((Function<Object, Object>) node.operation).apply(mapped);
+                            unit = false;
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown operation kind: " + node.kind);
+                }
+            } catch (TimeoutGuard.DeadlineExceededException ex) {
+                // Not a failure of this chain: skip its handlers up to the guard owning the deadline
+                throw ex;
+            } catch (FailureException ex) {
+                state = FAILED;
+                value = null;
+                error = ex.getError();
+            } catch (Exception ex) {
+                state = THREW;
+                thrown = ex;
+                value = null;
+                error = null;
+            }
+        }
+
+        if (state == THREW) {
+            return Result.failure((E) mapException(rootPlan, rootPlan.length, thrown));
+        }
+        if (state == FAILED) {
+            return Result.failure((E) error);
+        }
+        if (unit) {
+            return (Result<T, E>) UNIT;
+        }
         try {
-            T data = supplier.get();
-            return Result.success(data);
+            return Result.success((T) value);
         } catch (Exception ex) {
-            E error = errorMapper.apply(ex);
-            return Result.failure(error);
+            // A null value fails like a throwing operation, through the error mapper
+            return Result.failure((E) mapException(rootPlan, rootPlan.length, ex));
+        }
+    }
+
+    /**
+     * Evaluates the lazy computation on the {@link LazyExecutors#defaultExecutor() default executor}:
+     * a new virtual thread on Java 21 and later, the common fork-join pool otherwise.
+     * See {@link #evaluateAsync(Executor)} for the completion semantics.
+     *
+     * @return a future completed with the Result of the evaluation
+     */
+    public CompletableFuture<Result<T, E>> evaluateAsync() {
+        return evaluateAsync(LazyExecutors.defaultExecutor());
+    }
+
+    /**
+     * Evaluates the lazy computation on the given executor.
+     * The returned future completes with the same Result {@link #evaluate()} would return:
+     * exceptions are mapped to failures by the error mapper, so the future does not complete
+     * exceptionally. The only exceptions are an error mapper that throws itself, or an
+     * {@link Error}, which complete the future exceptionally instead of being lost.
+     *
+     * <p>If the executor rejects the task, the future completes immediately with the
+     * {@link RejectedExecutionException} mapped to a failure.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * CompletableFuture<Result<User, String>> user = findUser(id).evaluateAsync(ioExecutor);
+     * CompletableFuture<Result<Wallet, String>> wallet = findWallet(id).evaluateAsync(ioExecutor);
+     *
+     * CompletableFuture<Result<Profile, String>> profile = user.thenCombine(wallet,
+     *     (u, w) -> Result.combine(u, w, Profile::new));
+     * }</pre>
+     *
+     * @param executor the executor running the evaluation
+     * @return a future completed with the Result of the evaluation
+     * @throws NullPointerException if executor is null
+     */
+    public CompletableFuture<Result<T, E>> evaluateAsync(Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        CompletableFuture<Result<T, E>> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(evaluate());
+                } catch (RuntimeException | Error ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.complete(Result.failure(mapException(ex)));
         }
+        return future;
     }
 
     // Instance methods for fluent API
@@ -109,10 +455,7 @@ public class LazyResult<T, E> {
      */
     public <X> LazyResult<X, E> map(Function<T, X> mapper) {
         Objects.requireNonNull(mapper, "mapper cannot be null");
-        return new LazyResult<>(
-                wrapMainFunction(this, mapper),
-                this.errorMapper
-        );
+        return thenFused(MAP, FUSED_MAP, mapper);
     }
 
     /**
@@ -137,10 +480,7 @@ public class LazyResult<T, E> {
     public <X, E2> LazyResult<X, E2> map(Function<T, X> mapper, Function<E, E2> exceptionMapper) {
         Objects.requireNonNull(mapper, "mapper cannot be null");
         Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
-        return new LazyResult<>(
-                wrapMainFunction(this, mapper),
-                wrapException(this, exceptionMapper)
-        );
+        return this.<X, E>thenFused(MAP, FUSED_MAP, mapper).thenFused(MAP_ERROR, FUSED_MAP_ERROR, exceptionMapper);
     }
 
     /**
@@ -162,10 +502,7 @@ public class LazyResult<T, E> {
      */
     public <E2> LazyResult<T, E2> mapError(Function<E, E2> exceptionMapper) {
         Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
-        return new LazyResult<>(
-                this.supplier,
-                wrapException(this, exceptionMapper)
-        );
+        return thenFused(MAP_ERROR, FUSED_MAP_ERROR, exceptionMapper);
     }
 
     /**
@@ -191,13 +528,31 @@ public class LazyResult<T, E> {
      */
     public <X> LazyResult<X, E> flatMap(Function<T, LazyResult<X, E>> mapper) {
         Objects.requireNonNull(mapper, "mapper cannot be null");
-        return new LazyResult<>(
-                () -> {
-                    T value = this.supplier.get();
-                    return mapper.apply(value).supplier.get();
-                },
-                this.errorMapper
-        );
+        return then(FLAT_MAP, mapper);
+    }
+
+    /**
+     * Chains a function that returns a Result, applied to the success value.
+     * Like {@link #flatMap(Function)}, but the function decides success or failure directly:
+     * a returned failure becomes the failure of this chain without throwing, and without
+     * building and evaluating an inner LazyResult.
+     *
+     * <p>If this LazyResult fails, the function is not applied.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Payment, String> payment = LazyResult.create(() -> parse(request), ex -> "Malformed request")
+     *     .flatMapResult(p -> p.amount() > 0 ? Result.success(p) : Result.failure("Amount must be positive"));
+     * }</pre>
+     *
+     * @param <X>    the type of the value in the returned LazyResult
+     * @param mapper the function that returns a Result
+     * @return a new LazyResult representing the sequenced computation
+     * @throws NullPointerException if mapper is null
+     */
+    public <X> LazyResult<X, E> flatMapResult(Function<T, Result<X, E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return then(FLAT_MAP_RESULT, mapper);
     }
 
     /**
@@ -220,14 +575,7 @@ public class LazyResult<T, E> {
      */
     public LazyResult<T, E> peek(Consumer<T> action) {
         Objects.requireNonNull(action, "action cannot be null");
-        return new LazyResult<>(
-                () -> {
-                    T value = this.supplier.get();
-                    action.accept(value);
-                    return value;
-                },
-                this.errorMapper
-        );
+        return then(PEEK, action);
     }
 
     /**
@@ -250,17 +598,449 @@ public class LazyResult<T, E> {
      */
     public LazyResult<T, E> recover(Function<E, T> recovery) {
         Objects.requireNonNull(recovery, "recovery cannot be null");
-        return new LazyResult<>(
-                () -> {
-                    try {
-                        return this.supplier.get();
-                    } catch (Exception ex) {
-                        E error = this.errorMapper.apply(ex);
-                        return recovery.apply(error);
-                    }
-                },
-                this.errorMapper
-        );
+        return then(RECOVER, recovery);
+    }
+
+    /**
+     * Returns a LazyResult that evaluates this one at most once and then returns the same Result.
+     * Both successes and failures are cached.
+     *
+     * <p>Equivalent to {@code memoize(MemoizationPolicy.CACHE_FAILURES)}.
+     *
+     * @return a memoized LazyResult
+     * @see #memoize(MemoizationPolicy)
+     */
+    public LazyResult<T, E> memoize() {
+        return memoize(MemoizationPolicy.CACHE_FAILURES);
+    }
+
+    /**
+     * Returns a LazyResult that evaluates this one once and then returns the same Result.
+     * Operations chained after the memoized LazyResult still run on every evaluation.
+     *
+     * <p>The memoized LazyResult is safe to share between threads: callers racing the first
+     * evaluation wait for it instead of running the computation again, and once the Result is
+     * published it is read with a single volatile load, without locking.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Config, String> config = LazyResult.create(
+     *     () -> loadConfigFromFile(),
+     *     ex -> "Failed to load config"
+     * ).memoize(MemoizationPolicy.RETRY_FAILURES);
+     * }</pre>
+     *
+     * @param policy whether failures are cached or evaluated again on the next call
+     * @return a memoized LazyResult
+     * @throws NullPointerException if policy is null
+     */
+    public LazyResult<T, E> memoize(MemoizationPolicy policy) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        return fromResultSupplier(new Memoizer<>(this, policy));
+    }
+
+    /**
+     * Returns a LazyResult that caches the Result of this one for a limited time.
+     * Operations chained after the memoized LazyResult still run on every evaluation.
+     *
+     * <p>A cached success is served until it expires. Within the refresh-ahead window of the
+     * policy, one background refresh runs on the policy executor while callers keep receiving
+     * the cached success; reading the cache never takes a lock. Failed refreshes are retried
+     * after an exponential backoff. See {@link RefreshPolicy} for the details.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<MerchantConfig, String> config = LazyResult.create(
+     *     () -> configClient.fetch(merchantId),
+     *     ex -> "Config unavailable"
+     * ).memoizeWithRefresh(RefreshPolicy.expireAfter(Duration.ofMinutes(10))
+     *     .withRefreshAhead(Duration.ofMinutes(1)));
+     * }</pre>
+     *
+     * @param policy the expiry, refresh-ahead and backoff configuration
+     * @return a LazyResult caching this one according to the policy
+     * @throws NullPointerException if policy is null
+     */
+    public LazyResult<T, E> memoizeWithRefresh(RefreshPolicy policy) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        return fromResultSupplier(new RefreshingMemoizer<>(this, policy));
+    }
+
+    /**
+     * Returns a LazyResult that fails with the error supplied by {@code onTimeout} when the
+     * evaluation of this one does not complete within the given timeout.
+     *
+     * <p>When the timeout expires, the evaluating thread is interrupted, so blocking calls that
+     * honour interruption give up early, and the timeout failure is returned in place of whatever
+     * the evaluation produced. The interrupt caused by the timeout is cleared before returning.
+     *
+     * <p>The deadline propagates to the LazyResults evaluated within it, such as the ones returned
+     * by {@link #flatMap(Function)}: nested timeouts share the remaining budget and cannot extend
+     * it, and no further flatMap stage is started once the deadline has passed. Deadlines are
+     * tracked by a single hashed-wheel timer, so a pending timeout costs a small allocation and no
+     * scheduled task, and fires with a precision of about 10 milliseconds.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Payment, String> payment = findWallet(userId)
+     *     .flatMap(wallet -> authorize(wallet, amount).withTimeout(Duration.ofMillis(300), () -> "Authorization timed out"))
+     *     .withTimeout(Duration.ofSeconds(1), () -> "Payment timed out");
+     * }</pre>
+     *
+     * @param timeout   the maximum duration of the evaluation, must be positive
+     * @param onTimeout supplies the error returned when the timeout expires
+     * @return a LazyResult failing with the supplied error when the timeout expires
+     * @throws NullPointerException     if timeout or onTimeout is null
+     * @throws IllegalArgumentException if timeout is zero or negative
+     */
+    public LazyResult<T, E> withTimeout(Duration timeout, Supplier<E> onTimeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        Objects.requireNonNull(onTimeout, "onTimeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return fromResultSupplier(new TimeoutGuard<>(this, saturatedNanos(timeout), onTimeout));
+    }
+
+    /**
+     * Returns a LazyResult that evaluates this one again after a failure, as configured by the policy.
+     * Each attempt runs the whole computation again, starting from the supplier.
+     *
+     * <p>The backoff between attempts is waited out on the evaluating thread, which suits callers
+     * that block on {@link #evaluate()} anyway, such as virtual threads. An interrupt, for instance
+     * from an expired {@link #withTimeout(Duration, Supplier) timeout}, stops the retries and returns
+     * the last failure. Use {@link #retryAsync(RetryPolicy, Executor)} to retry without parking a thread.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Rates, String> rates = LazyResult.create(
+     *     () -> ratesClient.fetch(),
+     *     ex -> "Rates unavailable: " + ex.getMessage()
+     * ).retry(RetryPolicy.maxAttempts(3));
+     * }</pre>
+     *
+     * @param policy the attempts, backoff, retry predicate and budget
+     * @return a LazyResult retrying this one
+     * @throws NullPointerException if policy is null
+     */
+    public LazyResult<T, E> retry(RetryPolicy<? super E> policy) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        return fromResultSupplier(new Retrier<>(this, policy));
+    }
+
+    /**
+     * Evaluates this LazyResult on the given executor, evaluating it again after a failure as
+     * configured by the policy, and returns a future completed with the Result of the last attempt.
+     *
+     * <p>No thread is parked during the backoff: the next attempt is scheduled on a shared
+     * hashed-wheel timer, whose thread submits it to the executor once the backoff elapsed. The
+     * executor must therefore not run tasks on the submitting thread. Cancelling the returned future
+     * stops further attempts. The completion semantics of each attempt are those of
+     * {@link #evaluateAsync(Executor)}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * CompletableFuture<Result<Payment, PaymentError>> payment = authorize(request).retryAsync(
+     *     RetryPolicy.<PaymentError>maxAttempts(4).retryIf(PaymentError::isTransient),
+     *     ioExecutor
+     * );
+     * }</pre>
+     *
+     * @param policy   the attempts, backoff, retry predicate and budget
+     * @param executor the executor running the attempts
+     * @return a future completed with the Result of the last attempt
+     * @throws NullPointerException if policy or executor is null
+     */
+    public CompletableFuture<Result<T, E>> retryAsync(RetryPolicy<? super E> policy, Executor executor) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        return new Retrier<>(this, policy).getAsync(executor);
+    }
+
+    /**
+     * Returns a LazyResult guarded by the given circuit breaker.
+     *
+     * <p>While the breaker is closed, this LazyResult is evaluated and its outcome is recorded by the
+     * breaker. While it is open, the evaluation fails immediately with the error configured on the
+     * breaker, without running the supplier, so callers stop paying the latency of a failing
+     * dependency. See {@link CircuitBreaker} for when the breaker opens and closes.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Wallet, String> wallet = findWallet(userId)
+     *     .withTimeout(Duration.ofMillis(500), () -> "Wallet timed out")
+     *     .withCircuitBreaker(walletBreaker);
+     * }</pre>
+     *
+     * @param breaker the circuit breaker, usually shared by all the calls to the same dependency
+     * @return a LazyResult guarded by the breaker
+     * @throws NullPointerException if breaker is null
+     */
+    public LazyResult<T, E> withCircuitBreaker(CircuitBreaker<E> breaker) {
+        Objects.requireNonNull(breaker, "breaker cannot be null");
+        return fromResultSupplier(() -> breaker.evaluate(this));
+    }
+
+    /**
+     * Returns a LazyResult whose evaluations are admitted by the given adaptive concurrency limiter.
+     *
+     * <p>When the limiter has a permit available, this LazyResult is evaluated and its latency is
+     * fed back to the limiter, which adapts its limit to it. When the limit is reached, the
+     * evaluation fails immediately with the error configured on the limiter, without running the
+     * supplier, so an overloaded dependency is not pushed further. See {@link ConcurrencyLimiter}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Balance, String> balance = fetchBalance(userId).withConcurrencyLimiter(ledgerLimiter);
+     * }</pre>
+     *
+     * @param limiter the limiter, usually shared by all the calls to the same dependency
+     * @return a LazyResult admitted by the limiter
+     * @throws NullPointerException if limiter is null
+     */
+    public LazyResult<T, E> withConcurrencyLimiter(ConcurrencyLimiter<E> limiter) {
+        Objects.requireNonNull(limiter, "limiter cannot be null");
+        return fromResultSupplier(() -> limiter.evaluate(this));
+    }
+
+    /**
+     * Returns a LazyResult that evaluates this one on the given executor and, when the evaluation
+     * runs late, starts duplicate evaluations, returning the first success.
+     *
+     * <p>If the evaluation has not completed after the delay of the policy, the same LazyResult is
+     * evaluated again concurrently, up to the maximum number of hedges. The first success wins and
+     * the other evaluations are cancelled with an interrupt. A failure does not trigger a hedge;
+     * when every evaluation started failed, the failure of the first one is returned. The delay can
+     * be adaptive: a percentile of the latencies observed by the returned LazyResult, so that only
+     * the slowest evaluations are duplicated.
+     *
+     * <p>Hedging is meant for idempotent, read-only computations, such as lookups against replicated
+     * stores, whose tail latency is caused by transient slowness of a single replica. A rejected
+     * first evaluation and an interruption of the waiting thread are mapped by the error mappers of
+     * this LazyResult.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Profile, String> profile = LazyResult.create(
+     *     () -> profileStore.read(userId),
+     *     ex -> "Profile unavailable"
+     * ).hedged(HedgePolicy.atPercentile(95), ioExecutor);
+     * }</pre>
+     *
+     * @param policy   the delay before each hedge and the maximum number of hedges
+     * @param executor the executor running the evaluations
+     * @return a LazyResult hedging this one
+     * @throws NullPointerException if policy or executor is null
+     */
+    public LazyResult<T, E> hedged(HedgePolicy policy, Executor executor) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        return fromResultSupplier(new Hedger<>(this, policy, executor, this::mapException));
+    }
+
+    // Parallel combinators
+
+    /**
+     * Combines two independent LazyResults, evaluating them concurrently on the given executor.
+     * The latency of the evaluation is the latency of the slowest input rather than the sum.
+     *
+     * <p>The evaluation fails fast: as soon as one input fails, its failure is returned and the
+     * other input is cancelled with an interrupt. Exceptions thrown by the combiner, a rejected
+     * task and an interruption of the waiting thread are mapped by the error mappers of
+     * {@code first}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Checkout, String> checkout = LazyResult.zip(
+     *     findUser(userId),
+     *     findMerchant(merchantId),
+     *     Checkout::new,
+     *     ioExecutor
+     * );
+     * }</pre>
+     *
+     * @param <T1>     the type of the first success value
+     * @param <T2>     the type of the second success value
+     * @param <R>      the type of the combined value
+     * @param <E>      the type of the error (must be the same for both LazyResults)
+     * @param first    the first LazyResult
+     * @param second   the second LazyResult
+     * @param combiner the function to combine the success values
+     * @param executor the executor evaluating the inputs
+     * @return a LazyResult combining both inputs, or failing with the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, R, E> LazyResult<R, E> zip(LazyResult<T1, E> first,
+                                                     LazyResult<T2, E> second,
+                                                     BiFunction<T1, T2, R> combiner,
+                                                     Executor executor) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        return zipAll(Arrays.asList(first, second), executor, first)
+                .map(values -> combiner.apply((T1) values[0], (T2) values[1]));
+    }
+
+    /**
+     * Combines three independent LazyResults, evaluating them concurrently on the given executor.
+     * See {@link #zip(LazyResult, LazyResult, BiFunction, Executor)} for the failure semantics.
+     *
+     * @param <T1>     the type of the first success value
+     * @param <T2>     the type of the second success value
+     * @param <T3>     the type of the third success value
+     * @param <R>      the type of the combined value
+     * @param <E>      the type of the error (must be the same for all LazyResults)
+     * @param first    the first LazyResult
+     * @param second   the second LazyResult
+     * @param third    the third LazyResult
+     * @param combiner the function to combine the success values
+     * @param executor the executor evaluating the inputs
+     * @return a LazyResult combining all inputs, or failing with the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, R, E> LazyResult<R, E> zip(LazyResult<T1, E> first,
+                                                         LazyResult<T2, E> second,
+                                                         LazyResult<T3, E> third,
+                                                         Function3<T1, T2, T3, R> combiner,
+                                                         Executor executor) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        return zipAll(Arrays.asList(first, second, third), executor, first)
+                .map(values -> combiner.apply((T1) values[0], (T2) values[1], (T3) values[2]));
+    }
+
+    /**
+     * Combines four independent LazyResults, evaluating them concurrently on the given executor.
+     * See {@link #zip(LazyResult, LazyResult, BiFunction, Executor)} for the failure semantics.
+     *
+     * @param <T1>     the type of the first success value
+     * @param <T2>     the type of the second success value
+     * @param <T3>     the type of the third success value
+     * @param <T4>     the type of the fourth success value
+     * @param <R>      the type of the combined value
+     * @param <E>      the type of the error (must be the same for all LazyResults)
+     * @param first    the first LazyResult
+     * @param second   the second LazyResult
+     * @param third    the third LazyResult
+     * @param fourth   the fourth LazyResult
+     * @param combiner the function to combine the success values
+     * @param executor the executor evaluating the inputs
+     * @return a LazyResult combining all inputs, or failing with the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, T4, R, E> LazyResult<R, E> zip(LazyResult<T1, E> first,
+                                                             LazyResult<T2, E> second,
+                                                             LazyResult<T3, E> third,
+                                                             LazyResult<T4, E> fourth,
+                                                             Function4<T1, T2, T3, T4, R> combiner,
+                                                             Executor executor) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        return zipAll(Arrays.asList(first, second, third, fourth), executor, first)
+                .map(values -> combiner.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3]));
+    }
+
+    /**
+     * Evaluates all the given LazyResults concurrently and collects their values.
+     * Equivalent to {@code allOf(lazyResults, lazyResults.size(), executor)}.
+     *
+     * @param <T>         the type of the success values
+     * @param <E>         the type of the error
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param executor    the executor evaluating the LazyResults
+     * @return a LazyResult of the values in iteration order, or of the first failure
+     * @throws NullPointerException     if any parameter or element is null
+     * @throws IllegalArgumentException if lazyResults is empty
+     * @see #allOf(Collection, int, Executor)
+     */
+    public static <T, E> LazyResult<List<T>, E> allOf(Collection<? extends LazyResult<T, E>> lazyResults,
+                                                      Executor executor) {
+        Objects.requireNonNull(lazyResults, "lazyResults cannot be null");
+        return allOf(lazyResults, Math.max(lazyResults.size(), 1), executor);
+    }
+
+    /**
+     * Evaluates all the given LazyResults concurrently, at most {@code parallelism} at a time,
+     * and collects their values.
+     *
+     * <p>The evaluation fails fast: as soon as one LazyResult fails, its failure is returned and
+     * the evaluations still queued or running are cancelled with an interrupt. A rejected task and
+     * an interruption of the waiting thread are mapped by the error mappers of the first LazyResult.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<List<RiskScore>, String> scores = LazyResult.allOf(riskChecks, 4, ioExecutor);
+     * }</pre>
+     *
+     * @param <T>         the type of the success values
+     * @param <E>         the type of the error
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param parallelism the maximum number of concurrent evaluations, must be positive
+     * @param executor    the executor evaluating the LazyResults
+     * @return a LazyResult of the values in iteration order, or of the first failure
+     * @throws NullPointerException     if any parameter or element is null
+     * @throws IllegalArgumentException if lazyResults is empty or parallelism is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> LazyResult<List<T>, E> allOf(Collection<? extends LazyResult<T, E>> lazyResults,
+                                                      int parallelism,
+                                                      Executor executor) {
+        List<LazyResult<T, E>> inputs = fanOutInputs(lazyResults, parallelism, executor);
+        LazyResult<T, E> errorSource = inputs.get(0);
+        return errorSource.fromResultSupplier(() -> ParallelEvaluation
+                .evaluateAll(inputs, parallelism, executor, errorSource::mapException)
+                .map(values -> Collections.unmodifiableList(Arrays.asList((T[]) values))));
+    }
+
+    /**
+     * Evaluates the given LazyResults concurrently until one succeeds.
+     * Equivalent to {@code anyOf(lazyResults, lazyResults.size(), executor)}.
+     *
+     * @param <T>         the type of the success values
+     * @param <E>         the type of the error
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param executor    the executor evaluating the LazyResults
+     * @return a LazyResult of the first success, or of the failure of the first LazyResult if all fail
+     * @throws NullPointerException     if any parameter or element is null
+     * @throws IllegalArgumentException if lazyResults is empty
+     * @see #anyOf(Collection, int, Executor)
+     */
+    public static <T, E> LazyResult<T, E> anyOf(Collection<? extends LazyResult<T, E>> lazyResults,
+                                                Executor executor) {
+        Objects.requireNonNull(lazyResults, "lazyResults cannot be null");
+        return anyOf(lazyResults, Math.max(lazyResults.size(), 1), executor);
+    }
+
+    /**
+     * Evaluates the given LazyResults concurrently, at most {@code parallelism} at a time,
+     * until one succeeds.
+     *
+     * <p>As soon as one LazyResult succeeds, its value is returned and the evaluations still
+     * queued or running are cancelled with an interrupt. If every LazyResult fails, the failure
+     * of the first one in iteration order is returned. A rejected task and an interruption of the
+     * waiting thread are mapped by the error mappers of the first LazyResult.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LazyResult<Quote, String> quote = LazyResult.anyOf(
+     *     Arrays.asList(primaryProvider.quote(), backupProvider.quote()), ioExecutor);
+     * }</pre>
+     *
+     * @param <T>         the type of the success values
+     * @param <E>         the type of the error
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param parallelism the maximum number of concurrent evaluations, must be positive
+     * @param executor    the executor evaluating the LazyResults
+     * @return a LazyResult of the first success, or of the failure of the first LazyResult if all fail
+     * @throws NullPointerException     if any parameter or element is null
+     * @throws IllegalArgumentException if lazyResults is empty or parallelism is not positive
+     */
+    public static <T, E> LazyResult<T, E> anyOf(Collection<? extends LazyResult<T, E>> lazyResults,
+                                                int parallelism,
+                                                Executor executor) {
+        List<LazyResult<T, E>> inputs = fanOutInputs(lazyResults, parallelism, executor);
+        LazyResult<T, E> errorSource = inputs.get(0);
+        return errorSource.fromResultSupplier(
+                () -> ParallelEvaluation.evaluateAny(inputs, parallelism, executor, errorSource::mapException));
     }
 
     // Static methods (kept for backward compatibility)
@@ -327,16 +1107,131 @@ public class LazyResult<T, E> {
     // Private helper methods
 
     /**
-     * Wraps the error mapper by composing it with an additional transformation.
+     * Evaluates the inputs concurrently into an array of their values, in input order.
+     */
+    private static <E> LazyResult<Object[], E> zipAll(List<LazyResult<?, E>> lazyResults,
+                                                      Executor executor,
+                                                      LazyResult<?, E> errorSource) {
+        for (LazyResult<?, E> lazyResult : lazyResults) {
+            Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        }
+        Objects.requireNonNull(executor, "executor cannot be null");
+        return errorSource.fromResultSupplier(() -> ParallelEvaluation.evaluateAll(
+                lazyResults, lazyResults.size(), executor, errorSource::mapException));
+    }
+
+    /**
+     * Validates the arguments of a fan-out combinator and copies the LazyResults to fan out.
+     */
+    private static <T, E> List<LazyResult<T, E>> fanOutInputs(Collection<? extends LazyResult<T, E>> lazyResults,
+                                                              int parallelism,
+                                                              Executor executor) {
+        Objects.requireNonNull(lazyResults, "lazyResults cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        if (lazyResults.isEmpty()) {
+            throw new IllegalArgumentException("lazyResults cannot be empty");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        List<LazyResult<T, E>> inputs = new ArrayList<>(lazyResults);
+        for (LazyResult<T, E> lazyResult : inputs) {
+            Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        }
+        return inputs;
+    }
+
+    /**
+     * Converts a duration to nanoseconds, saturating durations too long to fit in a long.
+     */
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the Result produced by this source as is, without unwrapping and rewrapping it.
      */
-    private static <E2, T, E> Function<Exception, E2> wrapException(LazyResult<T, E> lazyResult, Function<E, E2> exceptionMapper) {
-        return lazyResult.errorMapper.andThen(exceptionMapper);
+    @SuppressWarnings("unchecked")
+    private Result<T, E> evaluateResultSource() {
+        try {
+            Result<T, E> result = ((Supplier<Result<T, E>>) operation).get();
+            return Objects.requireNonNull(result, "result supplier returned null");
+        } catch (TimeoutGuard.DeadlineExceededException ex) {
+            throw ex;
+        } catch (FailureException ex) {
+            return Result.failure(ex.getError());
+        } catch (Exception ex) {
+            return Result.failure((E) errorMapper.apply(ex));
+        }
     }
 
     /**
-     * Wraps the supplier by composing it with a transformation function.
+     * Creates a LazyResult whose source produces a whole Result, such as a cached one.
+     * Exceptions thrown by operations chained afterwards are mapped as this LazyResult maps them.
      */
-    private static <X, T, E> Supplier<X> wrapMainFunction(LazyResult<T, E> lazyResult, Function<T, X> mapper) {
-        return () -> mapper.apply(lazyResult.supplier.get());
+    private <X> LazyResult<X, E> fromResultSupplier(Supplier<Result<X, E>> supplier) {
+        return new LazyResult<>(null, RESULT_SOURCE, supplier, this::mapException);
+    }
+
+    /**
+     * Maps an exception to the error type of this LazyResult.
+     */
+    @SuppressWarnings("unchecked")
+    private E mapException(Exception ex) {
+        LazyResult<?, ?>[] plan = plan();
+        return (E) mapException(plan, plan.length, ex);
+    }
+
+    /**
+     * Lists the operations of this LazyResult in execution order, from the source to this one.
+     * The list is computed on the first evaluation and reused afterwards.
+     */
+    private LazyResult<?, ?>[] plan() {
+        LazyResult<?, ?>[] plan = this.plan;
+        if (plan == null) {
+            plan = new LazyResult<?, ?>[length];
+            int index = length;
+            for (LazyResult<?, ?> node = this; node != null; node = node.previous) {
+                plan[--index] = node;
+            }
+            this.plan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Maps an exception to the error type in effect before the operation at {@code end}:
+     * the source error mapper followed by every mapError that precedes that operation.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object mapException(LazyResult<?, ?>[] plan, int end, Exception ex) {
+        Object error = plan[0].errorMapper.apply(ex);
+        for (int i = 1; i < end; i++) {
+            if (plan[i].kind == MAP_ERROR) {
+                error = ((Function<Object, Object>) plan[i].operation).apply(error);
+            } else if (plan[i].kind == FUSED_MAP_ERROR) {
+                for (Object mapper : (Object[]) plan[i].operation) {
+                    error = ((Function<Object, Object>) mapper).apply(error);
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * An outer operation list suspended while the LazyResult returned by a flatMap runs.
+     */
+    private static final class Frame {
+        private final LazyResult<?, ?>[] plan;
+        private final int index;
+
+        private Frame(LazyResult<?, ?>[] plan, int index) {
+            this.plan = plan;
+            this.index = index;
+        }
     }
 }
@@ -0,0 +1,375 @@
+package com.satispay.utils.resulttype;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Result} specialized for {@code long} success values.
+ * The success value is stored unboxed, so numeric pipelines built from
+ * {@link #map}, {@link #flatMap} and the {@code mapToXxx} methods never allocate a
+ * {@code Long} on the success path.
+ *
+ * <p>A LongResult is immutable and can be in one of two states:
+ * <ul>
+ *   <li>Success - contains a {@code long} value</li>
+ *   <li>Failure - contains a non-null error of type E</li>
+ * </ul>
+ *
+ * <p>As with {@link Result}, each state is a subclass holding a single field, the value or the
+ * error, so a LongResult takes 24 bytes on a 64-bit JVM with compressed references.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * LongResult<String> result = LongResult.success(1500L)
+ *     .map(cents -> cents + 250);
+ *
+ * Result<String, String> formatted = result.mapToObj(v -> "Value: " + v);
+ * }</pre>
+ *
+ * @param <E> the type of the error value
+ * @see Result#mapToLong
+ */
+public abstract class LongResult<E> implements Serializable {
+    private static final long serialVersionUID = 2L;
+
+    private LongResult() {
+    }
+
+    /**
+     * Creates a successful LongResult containing the given value.
+     *
+     * @param <E>  the type of the error value
+     * @param data the success value
+     * @return a successful LongResult containing the given value
+     */
+    public static <E> LongResult<E> success(long data) {
+        return new Success<>(data);
+    }
+
+    /**
+     * Creates a failed LongResult containing the given error.
+     *
+     * @param <E>   the type of the error value
+     * @param error the error value, must not be null
+     * @return a failed LongResult containing the given error
+     * @throws NullPointerException if error is null
+     */
+    public static <E> LongResult<E> failure(E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        return new Failure<>(error);
+    }
+
+    /**
+     * Checks if this LongResult represents a success.
+     *
+     * @return true if this is a success, false if this is a failure
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns the success value.
+     * Returns 0 if this is a failure.
+     *
+     * @return the success value, or 0 if this is a failure
+     */
+    public abstract long getData();
+
+    /**
+     * Returns the error value.
+     * Returns null if this is a success.
+     *
+     * @return the error value, or null if this is a success
+     */
+    public abstract E getError();
+
+    // Functional methods
+
+    /**
+     * Converts the success value to an OptionalLong.
+     * Returns an empty OptionalLong if this is a failure.
+     *
+     * @return an OptionalLong containing the success value, or empty if this is a failure
+     */
+    public OptionalLong toOptional() {
+        return isSuccess() ? OptionalLong.of(getData()) : OptionalLong.empty();
+    }
+
+    /**
+     * Converts this LongResult into a boxed {@link Result}.
+     *
+     * @return a Result containing the boxed success value, or a failure with the same error
+     */
+    public Result<Long, E> boxed() {
+        return isSuccess() ? Result.success(getData()) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using the provided mapper function.
+     * If this is a failure, returns this same instance without allocating.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LongResult<String> result = LongResult.success(1500L);
+     * LongResult<String> mapped = result.map(cents -> cents + 250);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return a LongResult containing the transformed value, or the same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public LongResult<E> map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getData())) : this;
+    }
+
+    /**
+     * Transforms the success value into an {@code int} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return an IntResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public IntResult<E> mapToInt(LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getData())) : IntResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into a {@code double} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param mapper the function to transform the success value
+     * @return a DoubleResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public DoubleResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getData())) : DoubleResult.failure(getError());
+    }
+
+    /**
+     * Transforms the success value into an object using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * @param <U>    the type of the transformed value
+     * @param mapper the function to transform the success value
+     * @return a Result containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> Result<U, E> mapToObj(LongFunction<U> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? Result.success(mapper.apply(getData())) : Result.failure(getError());
+    }
+
+    /**
+     * Transforms the success value using a function that returns a LongResult.
+     * Useful for chaining numeric operations that may fail.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LongResult<String> checked = result.flatMap(cents -> cents > limit ? LongResult.failure("Limit exceeded") : LongResult.success(cents));
+     * }</pre>
+     *
+     * @param mapper the function that returns a LongResult
+     * @return the LongResult returned by the mapper, or this same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public LongResult<E> flatMap(LongFunction<LongResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(getData()) : this;
+    }
+
+    /**
+     * Transforms the error value using the provided mapper function.
+     * If this is a success, returns this same instance without allocating.
+     *
+     * @param <E2>   the type of the transformed error
+     * @param mapper the function to transform the error value
+     * @return a LongResult with the transformed error, or the same success
+     * @throws NullPointerException if mapper is null
+     */
+    @SuppressWarnings("unchecked")
+    public <E2> LongResult<E2> mapError(Function<E, E2> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? (LongResult<E2>) this : LongResult.failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Returns the success value or the provided default value if this is a failure.
+     *
+     * @param defaultValue the value to return if this is a failure
+     * @return the success value, or the default value if this is a failure
+     */
+    public long orElse(long defaultValue) {
+        return isSuccess() ? getData() : defaultValue;
+    }
+
+    /**
+     * Returns the success value or throws an exception created by the provided function.
+     *
+     * @param exceptionMapper the function that creates an exception from the error
+     * @return the success value
+     * @throws RuntimeException      the exception created by the mapper if this is a failure
+     * @throws NullPointerException if exceptionMapper is null
+     */
+    public long orElseThrow(Function<E, ? extends RuntimeException> exceptionMapper) {
+        Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
+        if (isSuccess()) {
+            return getData();
+        }
+        throw exceptionMapper.apply(getError());
+    }
+
+    /**
+     * Executes the provided consumer if this is a success.
+     * Returns this LongResult for chaining.
+     *
+     * @param consumer the action to execute on the success value
+     * @return this LongResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public LongResult<E> ifSuccess(LongConsumer consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (isSuccess()) {
+            consumer.accept(getData());
+        }
+        return this;
+    }
+
+    /**
+     * Executes the provided consumer if this is a failure.
+     * Returns this LongResult for chaining.
+     *
+     * @param consumer the action to execute on the error value
+     * @return this LongResult for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public LongResult<E> ifFailure(Consumer<E> consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (!isSuccess()) {
+            consumer.accept(getError());
+        }
+        return this;
+    }
+
+    /**
+     * Recovers from a failure by applying the recovery function to the error.
+     * If this is a success, returns this LongResult unchanged.
+     *
+     * @param recovery the function to convert the error to a success value
+     * @return a successful LongResult with the recovered value, or this LongResult if already successful
+     * @throws NullPointerException if recovery is null
+     */
+    public LongResult<E> recover(ToLongFunction<E> recovery) {
+        Objects.requireNonNull(recovery, "recovery cannot be null");
+        return isSuccess() ? this : LongResult.success(recovery.applyAsLong(getError()));
+    }
+
+    /**
+     * Combines two LongResults using the provided combiner function.
+     * Returns a failure if either LongResult is a failure.
+     * If both are failures, returns the first failure.
+     *
+     * @param <E>      the type of the error (must be the same for both results)
+     * @param r1       the first LongResult
+     * @param r2       the second LongResult
+     * @param combiner the function to combine the success values
+     * @return a LongResult containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <E> LongResult<E> combine(LongResult<E> r1, LongResult<E> r2, LongBinaryOperator combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess()) {
+            return LongResult.success(combiner.applyAsLong(r1.getData(), r2.getData()));
+        }
+        return r1.isSuccess() ? r2 : r1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongResult<?> that = (LongResult<?>) o;
+        return getData() == that.getData() && Objects.equals(getError(), that.getError());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(getData()) + Objects.hashCode(getError());
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "Success(" + getData() + ")" : "Failure(" + getError() + ")";
+    }
+
+    /**
+     * A successful LongResult, holding the unboxed value.
+     */
+    private static final class Success<E> extends LongResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final long data;
+
+        private Success(long data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public long getData() {
+            return data;
+        }
+
+        @Override
+        public E getError() {
+            return null;
+        }
+    }
+
+    /**
+     * A failed LongResult, holding the error.
+     */
+    private static final class Failure<E> extends LongResult<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E error;
+
+        private Failure(E error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public long getData() {
+            return 0;
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
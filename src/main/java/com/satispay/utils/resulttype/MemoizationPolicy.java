@@ -0,0 +1,20 @@
+package com.satispay.utils.resulttype;
+
+/**
+ * Decides whether a memoized {@link LazyResult} keeps a failed evaluation.
+ *
+ * @see LazyResult#memoize(MemoizationPolicy)
+ */
+public enum MemoizationPolicy {
+
+    /**
+     * Both successes and failures are cached: the computation runs at most once.
+     */
+    CACHE_FAILURES,
+
+    /**
+     * Only successes are cached: after a failure, the next evaluation runs the computation again.
+     * Callers that were waiting on the failed evaluation still receive its failure.
+     */
+    RETRY_FAILURES
+}
@@ -0,0 +1,90 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a {@link LazyResult} at most once and shares the outcome across threads.
+ *
+ * <p>Once a Result is published, reading it is a single volatile load. Until then, the first
+ * caller evaluates the LazyResult and concurrent callers wait on its in-flight evaluation
+ * instead of running the computation again. No lock is held while evaluating, and the evaluation
+ * runs outside the deadline of the caller starting it, so it is never cut short for everyone by
+ * the timeout of a single caller.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see LazyResult#memoize(MemoizationPolicy)
+ */
+final class Memoizer<T, E> implements Supplier<Result<T, E>> {
+    private final LazyResult<T, E> lazyResult;
+    private final MemoizationPolicy policy;
+    private final AtomicReference<CompletableFuture<Result<T, E>>> inFlight = new AtomicReference<>();
+    private volatile Result<T, E> result;
+
+    Memoizer(LazyResult<T, E> lazyResult, MemoizationPolicy policy) {
+        this.lazyResult = Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        this.policy = Objects.requireNonNull(policy, "policy cannot be null");
+    }
+
+    @Override
+    public Result<T, E> get() {
+        Result<T, E> cached = result;
+        if (cached != null) {
+            return cached;
+        }
+        // The evaluation is shared: the deadline of this caller must not fail it for the others
+        return TimeoutGuard.outsideDeadline(this::evaluateOnce);
+    }
+
+    private Result<T, E> evaluateOnce() {
+        CompletableFuture<Result<T, E>> evaluation = new CompletableFuture<>();
+        while (!inFlight.compareAndSet(null, evaluation)) {
+            CompletableFuture<Result<T, E>> running = inFlight.get();
+            if (running != null) {
+                return join(running);
+            }
+        }
+        // Another caller may have published its Result between our read and the CAS
+        Result<T, E> cached = result;
+        if (cached != null) {
+            inFlight.set(null);
+            evaluation.complete(cached);
+            return cached;
+        }
+        try {
+            Result<T, E> evaluated = lazyResult.evaluate();
+            if (evaluated.isSuccess() || policy == MemoizationPolicy.CACHE_FAILURES) {
+                result = evaluated;
+            }
+            inFlight.set(null);
+            evaluation.complete(evaluated);
+            return evaluated;
+        } catch (RuntimeException | Error ex) {
+            inFlight.set(null);
+            evaluation.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits for an in-flight evaluation, rethrowing what it threw.
+     */
+    static <R> R join(CompletableFuture<R> evaluation) {
+        try {
+            return evaluation.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+}
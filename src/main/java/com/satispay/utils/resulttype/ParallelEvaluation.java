@@ -0,0 +1,145 @@
+package com.satispay.utils.resulttype;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Evaluates independent {@link LazyResult}s concurrently until the outcome is decided.
+ *
+ * <p>At most {@code parallelism} tasks run on the executor, each evaluating the next pending
+ * LazyResult until none is left, while the calling thread waits. Depending on the mode, the
+ * outcome is decided by the first failure ({@link #evaluateAll all of}) or by the first success
+ * ({@link #evaluateAny any of}). As soon as it is decided, it is returned and the evaluations
+ * still queued or running are cancelled with an interrupt.
+ */
+final class ParallelEvaluation<E> {
+    private final List<? extends LazyResult<?, E>> lazyResults;
+    private final boolean firstSuccessWins;
+    private final Object[] values;
+    private final Result<Object, E>[] failures;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Result<Object, E>> outcome = new CompletableFuture<>();
+
+    @SuppressWarnings("unchecked")
+    private ParallelEvaluation(List<? extends LazyResult<?, E>> lazyResults, boolean firstSuccessWins) {
+        this.lazyResults = lazyResults;
+        this.firstSuccessWins = firstSuccessWins;
+        this.values = firstSuccessWins ? null : new Object[lazyResults.size()];
+        this.failures = firstSuccessWins ? (Result<Object, E>[]) new Result<?, ?>[lazyResults.size()] : null;
+        this.remaining = new AtomicInteger(lazyResults.size());
+    }
+
+    /**
+     * Evaluates all the given LazyResults concurrently, failing fast on the first failure.
+     *
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param parallelism the maximum number of concurrent evaluations
+     * @param executor    the executor running the evaluations
+     * @param errorMapper maps a rejected task or an interruption of the calling thread to an error
+     * @return a success holding the values in input order, or the first failure
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Result<Object[], E> evaluateAll(List<? extends LazyResult<?, E>> lazyResults,
+                                               int parallelism,
+                                               Executor executor,
+                                               Function<Exception, E> errorMapper) {
+        Result<?, E> result = new ParallelEvaluation<>(lazyResults, false).run(parallelism, executor, errorMapper);
+        return (Result<Object[], E>) result;
+    }
+
+    /**
+     * Evaluates the given LazyResults concurrently until the first success.
+     *
+     * @param lazyResults the LazyResults to evaluate, must not be empty
+     * @param parallelism the maximum number of concurrent evaluations
+     * @param executor    the executor running the evaluations
+     * @param errorMapper maps a rejected task or an interruption of the calling thread to an error
+     * @return the first success, or the failure of the first LazyResult if all of them failed
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> Result<T, E> evaluateAny(List<? extends LazyResult<T, E>> lazyResults,
+                                           int parallelism,
+                                           Executor executor,
+                                           Function<Exception, E> errorMapper) {
+        Result<?, E> result = new ParallelEvaluation<>(lazyResults, true).run(parallelism, executor, errorMapper);
+        return (Result<T, E>) result;
+    }
+
+    private Result<Object, E> run(int parallelism, Executor executor, Function<Exception, E> errorMapper) {
+        FutureTask<?>[] tasks = new FutureTask<?>[Math.min(parallelism, lazyResults.size())];
+        try {
+            for (int i = 0; i < tasks.length && !outcome.isDone(); i++) {
+                tasks[i] = new FutureTask<>(this::work, null);
+                try {
+                    executor.execute(tasks[i]);
+                } catch (RejectedExecutionException ex) {
+                    // The tasks already accepted evaluate every pending LazyResult
+                    if (i == 0) {
+                        outcome.complete(Result.failure(errorMapper.apply(ex)));
+                    }
+                    break;
+                }
+            }
+            return await(outcome, errorMapper);
+        } finally {
+            for (FutureTask<?> task : tasks) {
+                if (task != null) {
+                    task.cancel(true);
+                }
+            }
+        }
+    }
+
+    private void work() {
+        try {
+            int index;
+            while (!outcome.isDone() && (index = next.getAndIncrement()) < lazyResults.size()) {
+                evaluate(index);
+            }
+        } catch (RuntimeException | Error ex) {
+            outcome.completeExceptionally(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evaluate(int index) {
+        Result<Object, E> result = (Result<Object, E>) lazyResults.get(index).evaluate();
+        if (result.isSuccess() == firstSuccessWins) {
+            outcome.complete(result);
+            return;
+        }
+        if (firstSuccessWins) {
+            failures[index] = result;
+        } else {
+            values[index] = result.getData();
+        }
+        if (remaining.decrementAndGet() == 0) {
+            outcome.complete(firstSuccessWins ? failures[0] : Result.success((Object) values));
+        }
+    }
+
+    /**
+     * Waits for the outcome, mapping an interruption to a failure and rethrowing what an evaluation threw.
+     */
+    static <R, E> Result<R, E> await(CompletableFuture<Result<R, E>> outcome, Function<Exception, E> errorMapper) {
+        try {
+            return outcome.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Result.failure(errorMapper.apply(ex));
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+}
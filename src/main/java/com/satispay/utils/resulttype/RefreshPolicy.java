@@ -0,0 +1,159 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+/**
+ * Configures a time-bounded memoization of a {@link LazyResult}.
+ *
+ * <p>A cached success expires after its time to live. When refresh-ahead is configured, the
+ * first evaluation that finds the cached success within the refresh-ahead window starts a single
+ * background refresh on the executor, and every caller keeps receiving the cached success until
+ * the refresh completes. A failed refresh keeps the cached success until it expires and is retried
+ * after an exponential backoff; a failure with no success to fall back on is cached for the backoff.
+ *
+ * <p>RefreshPolicy is immutable: each {@code with} method returns a new policy.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * RefreshPolicy policy = RefreshPolicy.expireAfter(Duration.ofMinutes(5))
+ *     .withRefreshAhead(Duration.ofSeconds(30))
+ *     .withExecutor(refreshExecutor);
+ *
+ * LazyResult<Rates, String> rates = fetchRates().memoizeWithRefresh(policy);
+ * }</pre>
+ *
+ * @see LazyResult#memoizeWithRefresh(RefreshPolicy)
+ */
+public final class RefreshPolicy {
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    private final long timeToLiveNanos;
+    private final long refreshAheadNanos;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Executor executor;
+    private final LongSupplier clock;
+
+    private RefreshPolicy(long timeToLiveNanos, long refreshAheadNanos, long initialBackoffNanos,
+                          long maxBackoffNanos, Executor executor, LongSupplier clock) {
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.refreshAheadNanos = refreshAheadNanos;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a policy that caches a success for the given time to live, without refresh-ahead.
+     * Failed evaluations are retried after a backoff starting at one second and capped at the
+     * time to live; background refreshes run on the common fork-join pool.
+     *
+     * @param timeToLive how long a success is served after it was computed, must be positive
+     * @return a new RefreshPolicy
+     * @throws NullPointerException     if timeToLive is null
+     * @throws IllegalArgumentException if timeToLive is not positive
+     */
+    public static RefreshPolicy expireAfter(Duration timeToLive) {
+        long ttl = positiveNanos(timeToLive, "timeToLive");
+        long initialBackoff = Math.min(DEFAULT_INITIAL_BACKOFF.toNanos(), ttl);
+        return new RefreshPolicy(ttl, 0, initialBackoff, ttl, ForkJoinPool.commonPool(), System::nanoTime);
+    }
+
+    /**
+     * Returns a policy that starts a background refresh once a cached success is within
+     * the given duration of its expiry.
+     *
+     * @param refreshAhead the refresh-ahead window, must be shorter than the time to live
+     * @return a new RefreshPolicy
+     * @throws NullPointerException     if refreshAhead is null
+     * @throws IllegalArgumentException if refreshAhead is negative or not shorter than the time to live
+     */
+    public RefreshPolicy withRefreshAhead(Duration refreshAhead) {
+        Objects.requireNonNull(refreshAhead, "refreshAhead cannot be null");
+        long nanos = refreshAhead.toNanos();
+        if (nanos < 0 || nanos >= timeToLiveNanos) {
+            throw new IllegalArgumentException("refreshAhead must be non-negative and shorter than the time to live");
+        }
+        return new RefreshPolicy(timeToLiveNanos, nanos, initialBackoffNanos, maxBackoffNanos, executor, clock);
+    }
+
+    /**
+     * Returns a policy that retries failed evaluations after an exponential backoff, doubling
+     * from {@code initial} up to {@code max} for each consecutive failure.
+     *
+     * @param initial the backoff after the first failure, must be positive
+     * @param max     the maximum backoff, must not be shorter than initial
+     * @return a new RefreshPolicy
+     * @throws NullPointerException     if initial or max is null
+     * @throws IllegalArgumentException if initial is not positive or max is shorter than initial
+     */
+    public RefreshPolicy withFailureBackoff(Duration initial, Duration max) {
+        long initialNanos = positiveNanos(initial, "initial");
+        Objects.requireNonNull(max, "max cannot be null");
+        if (max.toNanos() < initialNanos) {
+            throw new IllegalArgumentException("max backoff cannot be shorter than the initial backoff");
+        }
+        return new RefreshPolicy(timeToLiveNanos, refreshAheadNanos, initialNanos, max.toNanos(), executor, clock);
+    }
+
+    /**
+     * Returns a policy that runs background refreshes on the given executor.
+     * Prefer a dedicated executor when the computation blocks.
+     *
+     * @param executor the executor for background refreshes
+     * @return a new RefreshPolicy
+     * @throws NullPointerException if executor is null
+     */
+    public RefreshPolicy withExecutor(Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        return new RefreshPolicy(timeToLiveNanos, refreshAheadNanos, initialBackoffNanos, maxBackoffNanos, executor, clock);
+    }
+
+    /**
+     * Returns a policy reading time from the given nanosecond clock, for tests.
+     */
+    RefreshPolicy withClock(LongSupplier clock) {
+        Objects.requireNonNull(clock, "clock cannot be null");
+        return new RefreshPolicy(timeToLiveNanos, refreshAheadNanos, initialBackoffNanos, maxBackoffNanos, executor, clock);
+    }
+
+    long timeToLiveNanos() {
+        return timeToLiveNanos;
+    }
+
+    long refreshAheadNanos() {
+        return refreshAheadNanos;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Returns the backoff after the given number of consecutive failures.
+     */
+    long backoffNanos(int failures) {
+        long backoff = initialBackoffNanos;
+        for (int i = 1; i < failures && backoff < maxBackoffNanos; i++) {
+            backoff = backoff > maxBackoffNanos / 2 ? maxBackoffNanos : backoff * 2;
+        }
+        return Math.min(backoff, maxBackoffNanos);
+    }
+
+    private static long positiveNanos(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " cannot be null");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration.toNanos();
+    }
+}
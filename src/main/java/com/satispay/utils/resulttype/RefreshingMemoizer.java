@@ -0,0 +1,127 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Caches the Result of a {@link LazyResult} for a limited time and refreshes it ahead of expiry.
+ *
+ * <p>The cached entry is read with a single volatile load and served as long as it has not
+ * expired, also while a refresh is in flight. At most one evaluation is in flight at a time:
+ * either a background refresh started within the refresh-ahead window, or a synchronous load
+ * once the entry expired, which concurrent callers wait on instead of duplicating it.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see RefreshPolicy
+ */
+final class RefreshingMemoizer<T, E> implements Supplier<Result<T, E>> {
+    private final LazyResult<T, E> lazyResult;
+    private final RefreshPolicy policy;
+    private final AtomicReference<CompletableFuture<Result<T, E>>> inFlight = new AtomicReference<>();
+    private volatile Entry<T, E> entry;
+
+    RefreshingMemoizer(LazyResult<T, E> lazyResult, RefreshPolicy policy) {
+        this.lazyResult = Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        this.policy = Objects.requireNonNull(policy, "policy cannot be null");
+    }
+
+    @Override
+    public Result<T, E> get() {
+        Entry<T, E> cached = entry;
+        long now = policy.now();
+        if (cached != null && cached.isValid(now)) {
+            if (now - cached.refreshAt >= 0 && inFlight.get() == null) {
+                refreshInBackground(cached);
+            }
+            return cached.result;
+        }
+        // The load is shared: the deadline of this caller must not fail it for the others
+        return TimeoutGuard.outsideDeadline(this::load);
+    }
+
+    private Result<T, E> load() {
+        CompletableFuture<Result<T, E>> evaluation = new CompletableFuture<>();
+        while (!inFlight.compareAndSet(null, evaluation)) {
+            CompletableFuture<Result<T, E>> running = inFlight.get();
+            if (running != null) {
+                return Memoizer.join(running);
+            }
+        }
+        // Another caller may have stored a fresh entry between our read and the CAS
+        Entry<T, E> cached = entry;
+        if (cached != null && cached.isValid(policy.now())) {
+            inFlight.set(null);
+            evaluation.complete(cached.result);
+            return cached.result;
+        }
+        return evaluate(evaluation, cached);
+    }
+
+    private void refreshInBackground(Entry<T, E> cached) {
+        CompletableFuture<Result<T, E>> evaluation = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, evaluation)) {
+            return;
+        }
+        try {
+            policy.executor().execute(() -> evaluate(evaluation, cached));
+        } catch (RejectedExecutionException ex) {
+            inFlight.set(null);
+            evaluation.complete(cached.result);
+        }
+    }
+
+    /**
+     * Runs the evaluation owning {@code inFlight}, stores the next entry and completes the waiters.
+     */
+    private Result<T, E> evaluate(CompletableFuture<Result<T, E>> evaluation, Entry<T, E> previous) {
+        try {
+            Result<T, E> result = lazyResult.evaluate();
+            long now = policy.now();
+            if (result.isSuccess()) {
+                long expiresAt = now + policy.timeToLiveNanos();
+                entry = new Entry<>(result, expiresAt, expiresAt - policy.refreshAheadNanos(), 0);
+            } else if (previous != null && previous.result.isSuccess() && previous.isValid(now)) {
+                // Keep serving the cached success and retry the refresh after a backoff
+                int failures = previous.failures + 1;
+                entry = new Entry<>(previous.result, previous.expiresAt, now + policy.backoffNanos(failures), failures);
+                result = previous.result;
+            } else {
+                int failures = previous == null ? 1 : previous.failures + 1;
+                long expiresAt = now + policy.backoffNanos(failures);
+                entry = new Entry<>(result, expiresAt, expiresAt, failures);
+            }
+            inFlight.set(null);
+            evaluation.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            inFlight.set(null);
+            evaluation.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * An immutable cached Result with its expiry and the time of the next refresh.
+     */
+    private static final class Entry<T, E> {
+        private final Result<T, E> result;
+        private final long expiresAt;
+        private final long refreshAt;
+        private final int failures;
+
+        private Entry(Result<T, E> result, long expiresAt, long refreshAt, int failures) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+            this.failures = failures;
+        }
+
+        private boolean isValid(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a {@link LazyResult} again after a failure, as configured by a {@link RetryPolicy}.
+ *
+ * <p>{@link #get()} waits out the backoff on the evaluating thread, which suits callers that
+ * block on {@link LazyResult#evaluate()} anyway. {@link #getAsync(Executor)} never parks a
+ * thread: each attempt runs on the executor and the next one is scheduled on the
+ * {@link HashedWheelTimer#shared() shared timer} once the backoff elapses.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see LazyResult#retry(RetryPolicy)
+ */
+final class Retrier<T, E> implements Supplier<Result<T, E>> {
+    private final LazyResult<T, E> lazyResult;
+    private final RetryPolicy<? super E> policy;
+
+    Retrier(LazyResult<T, E> lazyResult, RetryPolicy<? super E> policy) {
+        this.lazyResult = Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        this.policy = Objects.requireNonNull(policy, "policy cannot be null");
+    }
+
+    @Override
+    public Result<T, E> get() {
+        policy.recordCall();
+        for (int attempt = 1; ; attempt++) {
+            Result<T, E> result = lazyResult.evaluate();
+            if (result.isSuccess() || !policy.shouldRetry(attempt, result.getError())) {
+                return result;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(policy.backoffNanos(attempt));
+            } catch (InterruptedException ex) {
+                // Give up and keep the interrupt for the caller, such as an expired timeout
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Runs the attempts on the executor, completing the returned future with the Result of the
+     * last one. Cancelling the future stops scheduling further attempts.
+     */
+    CompletableFuture<Result<T, E>> getAsync(Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        policy.recordCall();
+        CompletableFuture<Result<T, E>> future = new CompletableFuture<>();
+        attempt(1, executor, future);
+        return future;
+    }
+
+    private void attempt(int attempt, Executor executor, CompletableFuture<Result<T, E>> future) {
+        if (future.isDone()) {
+            return;
+        }
+        lazyResult.evaluateAsync(executor).whenComplete((result, ex) -> {
+            if (ex != null) {
+                future.completeExceptionally(ex);
+            } else if (result.isSuccess() || future.isDone() || !policy.shouldRetry(attempt, result.getError())) {
+                future.complete(result);
+            } else {
+                HashedWheelTimer.shared().schedule(
+                        () -> attempt(attempt + 1, executor, future),
+                        policy.backoffNanos(attempt));
+            }
+        });
+    }
+}
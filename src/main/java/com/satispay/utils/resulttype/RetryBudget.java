@@ -0,0 +1,165 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the retries of a {@link RetryPolicy} to a fraction of the calls, to avoid retry storms.
+ *
+ * <p>When a dependency browns out, every failed call retrying multiplies the load on it right when
+ * it can least take it. A budget shared by all the calls to that dependency allows a retry only
+ * while the retries over the last window stay below {@code retryRatio} times the calls over the
+ * same window, plus a small reserve of {@code minRetriesPerSecond} so that a low-traffic caller can
+ * still retry. Once the budget is spent, failures are returned without retrying.
+ *
+ * <p>The window slides in two halves: the counts of the previous half are kept until the current
+ * one ends. Counting is lock-free; concurrent calls may overshoot the budget by a few retries.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * // At most 10% extra load on the provider, shared by all the calls to it
+ * RetryBudget providerBudget = RetryBudget.create(0.1);
+ *
+ * RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3).withBudget(providerBudget);
+ * }</pre>
+ *
+ * @see RetryPolicy#withBudget(RetryBudget)
+ */
+public final class RetryBudget {
+    private static final int DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+    private static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+    private final double retryRatio;
+    private final long reserve;
+    private final long halfWindowNanos;
+    private final LongSupplier clock;
+    private final AtomicReference<Windows> windows;
+
+    private RetryBudget(double retryRatio, int minRetriesPerSecond, Duration window, LongSupplier clock) {
+        this.retryRatio = retryRatio;
+        this.reserve = (long) Math.ceil(minRetriesPerSecond * (window.toNanos() / 1e9));
+        this.halfWindowNanos = Math.max(window.toNanos() / 2, 1);
+        this.clock = clock;
+        this.windows = new AtomicReference<>(new Windows(null, new Window(clock.getAsLong())));
+    }
+
+    /**
+     * Creates a budget allowing retries up to the given fraction of the calls over the last
+     * 10 seconds, plus a reserve of 10 retries per second.
+     *
+     * @param retryRatio the retries allowed per call, between 0 and 1; 0.1 allows 10% extra calls
+     * @return a new RetryBudget
+     * @throws IllegalArgumentException if retryRatio is not between 0 and 1
+     */
+    public static RetryBudget create(double retryRatio) {
+        return create(retryRatio, DEFAULT_MIN_RETRIES_PER_SECOND, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a budget allowing retries up to the given fraction of the calls over the window,
+     * plus a reserve of {@code minRetriesPerSecond}.
+     *
+     * @param retryRatio          the retries allowed per call, between 0 and 1
+     * @param minRetriesPerSecond the retries always allowed regardless of the calls, not negative
+     * @param window              the period over which calls and retries are counted, must be positive
+     * @return a new RetryBudget
+     * @throws NullPointerException     if window is null
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public static RetryBudget create(double retryRatio, int minRetriesPerSecond, Duration window) {
+        return create(retryRatio, minRetriesPerSecond, window, System::nanoTime);
+    }
+
+    /**
+     * Creates a budget reading time from the given nanosecond clock, for tests.
+     */
+    static RetryBudget create(double retryRatio, int minRetriesPerSecond, Duration window, LongSupplier clock) {
+        if (!(retryRatio >= 0 && retryRatio <= 1)) {
+            throw new IllegalArgumentException("retryRatio must be between 0 and 1");
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minRetriesPerSecond cannot be negative");
+        }
+        Objects.requireNonNull(window, "window cannot be null");
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        Objects.requireNonNull(clock, "clock cannot be null");
+        return new RetryBudget(retryRatio, minRetriesPerSecond, window, clock);
+    }
+
+    /**
+     * Records a call, which earns {@code retryRatio} retries.
+     */
+    void recordCall() {
+        current().calls.incrementAndGet();
+    }
+
+    /**
+     * Withdraws one retry from the budget.
+     *
+     * @return true if the retry is allowed, false if the budget is spent
+     */
+    boolean tryAcquireRetry() {
+        Windows snapshot = rotate();
+        Window current = snapshot.current;
+        long previousCalls = snapshot.previous == null ? 0 : snapshot.previous.calls.get();
+        long previousRetries = snapshot.previous == null ? 0 : snapshot.previous.retries.get();
+        while (true) {
+            long retries = current.retries.get();
+            long allowed = reserve + (long) (retryRatio * (previousCalls + current.calls.get()));
+            if (previousRetries + retries >= allowed) {
+                return false;
+            }
+            if (current.retries.compareAndSet(retries, retries + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private Window current() {
+        return rotate().current;
+    }
+
+    /**
+     * Starts a new half window once the current one ended, dropping the counts older than a window.
+     */
+    private Windows rotate() {
+        while (true) {
+            Windows snapshot = windows.get();
+            long now = clock.getAsLong();
+            long elapsed = now - snapshot.current.start;
+            if (elapsed < halfWindowNanos) {
+                return snapshot;
+            }
+            Window previous = elapsed < 2 * halfWindowNanos ? snapshot.current : null;
+            Windows rotated = new Windows(previous, new Window(now));
+            if (windows.compareAndSet(snapshot, rotated)) {
+                return rotated;
+            }
+        }
+    }
+
+    private static final class Windows {
+        private final Window previous;
+        private final Window current;
+
+        private Windows(Window previous, Window current) {
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    private static final class Window {
+        private final long start;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
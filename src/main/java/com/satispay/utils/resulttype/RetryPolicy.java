@@ -0,0 +1,176 @@
+package com.satispay.utils.resulttype;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Configures how a {@link LazyResult} is retried after a failure.
+ *
+ * <p>Each attempt evaluates the LazyResult again, running its supplier again. A failure is retried
+ * while attempts are left, the predicate accepts its error and the {@link RetryBudget}, if any,
+ * allows it. Between attempts the policy waits an exponential backoff, doubling from the initial
+ * backoff up to the maximum, shortened by a random jitter so that callers failing together do
+ * not retry together.
+ *
+ * <p>RetryPolicy is immutable: each {@code with} method returns a new policy. Unless configured
+ * otherwise, every failure is retried, the backoff doubles from 100 milliseconds up to 5 seconds
+ * and the jitter is full: each wait is drawn uniformly between zero and the backoff.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * RetryPolicy<PaymentError> policy = RetryPolicy.<PaymentError>maxAttempts(4)
+ *     .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *     .retryIf(PaymentError::isTransient)
+ *     .withBudget(providerBudget);
+ *
+ * Result<Payment, PaymentError> payment = authorize(request).retry(policy).evaluate();
+ * }</pre>
+ *
+ * @param <E> the type of the error the retry predicate is applied to
+ * @see LazyResult#retry(RetryPolicy)
+ * @see LazyResult#retryAsync(RetryPolicy, java.util.concurrent.Executor)
+ */
+public final class RetryPolicy<E> {
+    private static final long DEFAULT_INITIAL_BACKOFF_NANOS = Duration.ofMillis(100).toNanos();
+    private static final long DEFAULT_MAX_BACKOFF_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double jitter;
+    private final Predicate<? super E> retryIf;
+    private final RetryBudget budget;
+    private final DoubleSupplier random;
+
+    private RetryPolicy(int maxAttempts, long initialBackoffNanos, long maxBackoffNanos, double jitter,
+                        Predicate<? super E> retryIf, RetryBudget budget, DoubleSupplier random) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.jitter = jitter;
+        this.retryIf = retryIf;
+        this.budget = budget;
+        this.random = random;
+    }
+
+    /**
+     * Creates a policy that evaluates a LazyResult at most the given number of times,
+     * retrying every failure with the default backoff and jitter.
+     *
+     * @param <E>         the type of the error
+     * @param maxAttempts the maximum number of evaluations, including the first one, must be positive
+     * @return a new RetryPolicy
+     * @throws IllegalArgumentException if maxAttempts is not positive
+     */
+    public static <E> RetryPolicy<E> maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        return new RetryPolicy<>(maxAttempts, DEFAULT_INITIAL_BACKOFF_NANOS, DEFAULT_MAX_BACKOFF_NANOS, 1.0,
+                error -> true, null, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Returns a policy whose backoff doubles from {@code initial} up to {@code max} for each
+     * consecutive failure.
+     *
+     * @param initial the backoff after the first failure, not negative
+     * @param max     the maximum backoff, must not be shorter than initial
+     * @return a new RetryPolicy
+     * @throws NullPointerException     if initial or max is null
+     * @throws IllegalArgumentException if initial is negative or max is shorter than initial
+     */
+    public RetryPolicy<E> withBackoff(Duration initial, Duration max) {
+        Objects.requireNonNull(initial, "initial cannot be null");
+        Objects.requireNonNull(max, "max cannot be null");
+        if (initial.isNegative()) {
+            throw new IllegalArgumentException("initial backoff cannot be negative");
+        }
+        if (max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("max backoff cannot be shorter than the initial backoff");
+        }
+        return new RetryPolicy<>(maxAttempts, initial.toNanos(), max.toNanos(), jitter, retryIf, budget, random);
+    }
+
+    /**
+     * Returns a policy that shortens each backoff by a random fraction of up to {@code jitter}:
+     * 0 waits exactly the backoff, 0.5 waits between half and all of it, 1 waits between zero and all of it.
+     *
+     * @param jitter the maximum fraction of the backoff removed at random, between 0 and 1
+     * @return a new RetryPolicy
+     * @throws IllegalArgumentException if jitter is not between 0 and 1
+     */
+    public RetryPolicy<E> withJitter(double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1");
+        }
+        return new RetryPolicy<>(maxAttempts, initialBackoffNanos, maxBackoffNanos, jitter, retryIf, budget, random);
+    }
+
+    /**
+     * Returns a policy that only retries the failures whose error matches the predicate.
+     *
+     * @param retryIf the predicate deciding whether an error is worth retrying
+     * @return a new RetryPolicy
+     * @throws NullPointerException if retryIf is null
+     */
+    public RetryPolicy<E> retryIf(Predicate<? super E> retryIf) {
+        Objects.requireNonNull(retryIf, "retryIf cannot be null");
+        return new RetryPolicy<>(maxAttempts, initialBackoffNanos, maxBackoffNanos, jitter, retryIf, budget, random);
+    }
+
+    /**
+     * Returns a policy whose retries are withdrawn from the given budget, usually shared by all the
+     * calls to the same dependency. A failure is returned without retrying once the budget is spent.
+     *
+     * @param budget the budget capping the retries
+     * @return a new RetryPolicy
+     * @throws NullPointerException if budget is null
+     */
+    public RetryPolicy<E> withBudget(RetryBudget budget) {
+        Objects.requireNonNull(budget, "budget cannot be null");
+        return new RetryPolicy<>(maxAttempts, initialBackoffNanos, maxBackoffNanos, jitter, retryIf, budget, random);
+    }
+
+    /**
+     * Returns a policy drawing its jitter from the given source of numbers in [0, 1), for tests.
+     */
+    RetryPolicy<E> withRandom(DoubleSupplier random) {
+        Objects.requireNonNull(random, "random cannot be null");
+        return new RetryPolicy<>(maxAttempts, initialBackoffNanos, maxBackoffNanos, jitter, retryIf, budget, random);
+    }
+
+    /**
+     * Records a new call against the budget, if any.
+     */
+    void recordCall() {
+        if (budget != null) {
+            budget.recordCall();
+        }
+    }
+
+    /**
+     * Returns whether the failure of the given attempt should be retried, withdrawing the retry
+     * from the budget when it should.
+     */
+    boolean shouldRetry(int attempt, E error) {
+        return attempt < maxAttempts
+                && retryIf.test(error)
+                && (budget == null || budget.tryAcquireRetry());
+    }
+
+    /**
+     * Returns the jittered wait after the given number of consecutive failures.
+     */
+    long backoffNanos(int failures) {
+        long backoff = initialBackoffNanos;
+        for (int i = 1; i < failures && backoff < maxBackoffNanos; i++) {
+            backoff = backoff > maxBackoffNanos / 2 ? maxBackoffNanos : backoff * 2;
+        }
+        backoff = Math.min(backoff, maxBackoffNanos);
+        return backoff - (long) (backoff * jitter * random.getAsDouble());
+    }
+}
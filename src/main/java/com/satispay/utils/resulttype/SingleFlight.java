@@ -0,0 +1,86 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces concurrent evaluations of the same key into a single in-flight evaluation.
+ *
+ * <p>The first caller for a key evaluates its LazyResult; callers arriving with the same key while
+ * that evaluation is in flight wait for it instead of evaluating their own, and all of them
+ * receive the same Result. The key is released as soon as the evaluation completes, so the next
+ * caller evaluates again: unlike {@link LazyResult#memoize()}, nothing is cached, only concurrent
+ * duplicates are removed. This protects a downstream from a stampede of identical requests.
+ *
+ * <p>If the evaluation throws, which only happens when an error mapper throws or on an
+ * {@link Error}, every waiting caller rethrows it. The evaluation runs outside the deadline of
+ * the caller starting it, as set by {@link LazyResult#withTimeout(java.time.Duration, java.util.function.Supplier)}:
+ * a timeout fails that caller only, and the others still receive the Result of the evaluation.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * private final SingleFlight<MerchantId, MerchantProfile, String> profiles = new SingleFlight<>();
+ *
+ * public Result<MerchantProfile, String> profile(MerchantId id) {
+ *     return profiles.evaluate(id, LazyResult.create(
+ *         () -> merchantClient.fetchProfile(id),
+ *         ex -> "Profile unavailable: " + ex.getMessage()
+ *     ));
+ * }
+ * }</pre>
+ *
+ * @param <K> the type of the key identifying identical evaluations
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class SingleFlight<K, T, E> {
+    private final ConcurrentMap<K, CompletableFuture<Result<T, E>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Evaluates the LazyResult, or waits for the evaluation already in flight for the same key.
+     *
+     * @param key        the key identifying identical evaluations
+     * @param lazyResult the LazyResult evaluated if no evaluation is in flight for the key
+     * @return the Result of the in-flight evaluation for the key
+     * @throws NullPointerException if key or lazyResult is null
+     */
+    public Result<T, E> evaluate(K key, LazyResult<T, E> lazyResult) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        // The evaluation is shared: the deadline of this caller must not fail it for the others
+        return TimeoutGuard.outsideDeadline(() -> share(key, lazyResult));
+    }
+
+    private Result<T, E> share(K key, LazyResult<T, E> lazyResult) {
+        CompletableFuture<Result<T, E>> running = inFlight.get(key);
+        if (running != null) {
+            return Memoizer.join(running);
+        }
+        CompletableFuture<Result<T, E>> evaluation = new CompletableFuture<>();
+        running = inFlight.putIfAbsent(key, evaluation);
+        if (running != null) {
+            return Memoizer.join(running);
+        }
+        try {
+            Result<T, E> result = lazyResult.evaluate();
+            inFlight.remove(key, evaluation);
+            evaluation.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            inFlight.remove(key, evaluation);
+            evaluation.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the number of keys with an evaluation in flight.
+     *
+     * @return the number of in-flight evaluations
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
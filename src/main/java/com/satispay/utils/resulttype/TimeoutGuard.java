@@ -0,0 +1,228 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a {@link LazyResult} within a deadline, turning an overrun into a failure.
+ *
+ * <p>The deadline of the running evaluation is kept in a thread local, so a LazyResult
+ * evaluated inside it, such as the one returned by a {@code flatMap}, shares the remaining
+ * budget: a nested timeout never extends the deadline of the enclosing one, and the stages
+ * of a {@code flatMap} are not started once the deadline has passed.
+ *
+ * <p>Expiry is tracked by the {@link HashedWheelTimer#shared() shared timer}. When the deadline
+ * passes, the evaluating thread is interrupted, so blocking calls that honour interruption
+ * return early; the interrupt is cleared again before the timeout failure is returned.
+ *
+ * <p>An evaluation shared with other callers, such as the one of a memoized LazyResult, runs
+ * {@link #outsideDeadline(Supplier) outside} the deadline of the caller that happens to start it:
+ * a timeout is a failure of that caller only, never of the Result the others receive.
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see LazyResult#withTimeout(java.time.Duration, Supplier)
+ */
+final class TimeoutGuard<T, E> implements Supplier<Result<T, E>> {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Longest supported timeout, about 146 years, so deadline arithmetic on {@link System#nanoTime()} cannot overflow.
+     */
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 2;
+
+    /**
+     * Thrown, without a stack trace, in place of a stage skipped because the deadline passed.
+     * {@link LazyResult#evaluate()} lets it through without calling error mappers or recovery
+     * functions, up to the guard owning the deadline, which turns it into the timeout failure.
+     */
+    static final DeadlineExceededException DEADLINE_EXCEEDED = new DeadlineExceededException();
+
+    private final LazyResult<T, E> lazyResult;
+    private final long timeoutNanos;
+    private final Supplier<E> onTimeout;
+
+    TimeoutGuard(LazyResult<T, E> lazyResult, long timeoutNanos, Supplier<E> onTimeout) {
+        this.lazyResult = Objects.requireNonNull(lazyResult, "lazyResult cannot be null");
+        this.timeoutNanos = Math.min(timeoutNanos, MAX_TIMEOUT_NANOS);
+        this.onTimeout = Objects.requireNonNull(onTimeout, "onTimeout cannot be null");
+    }
+
+    /**
+     * Returns whether the deadline of the evaluation running on this thread has passed.
+     */
+    static boolean deadlineExceeded() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null && deadline.hasPassed();
+    }
+
+    /**
+     * Runs an evaluation shared with other callers outside the deadlines of the evaluation running
+     * on this thread: the shared evaluation neither sees them nor is interrupted when they pass.
+     * They apply again once it returns, the thread being interrupted then if one has passed.
+     *
+     * @throws DeadlineExceededException if a deadline has already passed, before anything is shared
+     */
+    static <R> R outsideDeadline(Supplier<R> sharedEvaluation) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return sharedEvaluation.get();
+        }
+        if (!deadline.suspend()) {
+            throw DEADLINE_EXCEEDED;
+        }
+        CURRENT.remove();
+        try {
+            return sharedEvaluation.get();
+        } finally {
+            CURRENT.set(deadline);
+            deadline.resume();
+        }
+    }
+
+    @Override
+    public Result<T, E> get() {
+        long now = System.nanoTime();
+        Deadline enclosing = CURRENT.get();
+        long expiresAt = now + timeoutNanos;
+        if (enclosing != null && enclosing.expiresAt - expiresAt < 0) {
+            expiresAt = enclosing.expiresAt;
+        }
+        if (expiresAt - now <= 0) {
+            return Result.failure(onTimeout.get());
+        }
+        Deadline deadline = new Deadline(expiresAt, Thread.currentThread(), enclosing);
+        HashedWheelTimer.Timeout timeout = HashedWheelTimer.shared().schedule(deadline::expire, expiresAt - now);
+        CURRENT.set(deadline);
+        Result<T, E> result = null;
+        boolean interrupted;
+        try {
+            result = lazyResult.evaluate();
+        } catch (DeadlineExceededException ex) {
+            // A stage was skipped: the deadline has passed, checked below
+        } finally {
+            if (enclosing == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(enclosing);
+            }
+            interrupted = deadline.finish();
+            timeout.cancel();
+        }
+        if (interrupted || result == null || deadline.hasPassed()) {
+            return Result.failure(onTimeout.get());
+        }
+        return result;
+    }
+
+    /**
+     * Aborts an evaluation whose deadline has passed.
+     */
+    static final class DeadlineExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private DeadlineExceededException() {
+            super("deadline exceeded", null, false, false);
+        }
+    }
+
+    /**
+     * The deadline of one evaluation, and the thread to interrupt when it passes.
+     * The deadlines of the enclosing evaluations on the same thread are linked through {@code enclosing}.
+     */
+    private static final class Deadline {
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+        private static final int EXPIRED = 4;
+        private static final int SUSPENDED = 5;
+
+        private final long expiresAt;
+        private final Thread thread;
+        private final Deadline enclosing;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private Deadline(long expiresAt, Thread thread, Deadline enclosing) {
+            this.expiresAt = expiresAt;
+            this.thread = thread;
+            this.enclosing = enclosing;
+        }
+
+        private boolean hasPassed() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+
+        /**
+         * Runs on the timer thread: interrupts the evaluation unless it already finished.
+         * A thread that is already interrupted is left as is, so that its interrupt, which the
+         * guard did not deliver, is not cleared when the evaluation finishes.
+         */
+        private void expire() {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                if (thread.isInterrupted()) {
+                    state.set(EXPIRED);
+                } else {
+                    thread.interrupt();
+                    state.set(INTERRUPTED);
+                }
+            }
+        }
+
+        /**
+         * Runs on the evaluating thread: stops this deadline and the enclosing ones from
+         * interrupting it, unless one of them has already passed.
+         *
+         * @return true if suspended, false if a deadline has passed and nothing was suspended
+         */
+        private boolean suspend() {
+            for (Deadline deadline = this; deadline != null; deadline = deadline.enclosing) {
+                if (deadline.hasPassed() || !deadline.state.compareAndSet(RUNNING, SUSPENDED)) {
+                    for (Deadline suspended = this; suspended != deadline; suspended = suspended.enclosing) {
+                        suspended.resumeOne();
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Runs on the evaluating thread after {@link #suspend()}. A timer that fired meanwhile
+         * did nothing, so a deadline that has passed is expired here instead.
+         */
+        private void resume() {
+            for (Deadline deadline = this; deadline != null; deadline = deadline.enclosing) {
+                deadline.resumeOne();
+            }
+        }
+
+        private void resumeOne() {
+            state.set(RUNNING);
+            if (hasPassed()) {
+                expire();
+            }
+        }
+
+        /**
+         * Runs on the evaluating thread once the evaluation returned.
+         *
+         * @return true if the timer expired the evaluation; an interrupt it delivered is now cleared
+         */
+        private boolean finish() {
+            if (state.compareAndSet(RUNNING, FINISHED)) {
+                return false;
+            }
+            // Wait for the timer to deliver the interrupt, so it cannot leak past this point
+            int expired;
+            while ((expired = state.get()) == INTERRUPTING) {
+                Thread.yield();
+            }
+            if (expired == INTERRUPTED) {
+                Thread.interrupted();
+            }
+            return true;
+        }
+    }
+}
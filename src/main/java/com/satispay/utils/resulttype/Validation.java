@@ -0,0 +1,446 @@
+package com.satispay.utils.resulttype;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Validates several independent inputs in a single pass, collecting every error instead of
+ * stopping at the first one as {@link Result#combine} does.
+ *
+ * <p>{@code combine} validates up to eight inputs given as Results: it builds the value from
+ * them if every input is valid, or fails with the errors of all the failed inputs, in order, as
+ * {@link ValidationErrors}. When every input is valid it allocates only the value and its Result,
+ * as {@link Result#combine} does; the errors are collected only on failure.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Result<PaymentRequest, ValidationErrors<String>> request = Validation.combine(
+ *     Amount.parse(fields.get("amount")),
+ *     Currency.parse(fields.get("currency")),
+ *     Merchant.parse(fields.get("merchant")),
+ *     PaymentRequest::new
+ * );
+ * }</pre>
+ *
+ * <p>For more inputs, or checks that are plain conditions, a Validation instance collects the
+ * errors one {@code check} at a time. Each {@code check} records the error of a failed input and
+ * lets the validation continue; a checked Result hands back its success value, or null when it
+ * failed. {@link #complete(Supplier)} then builds the value from the checked inputs if every check
+ * passed, or fails with all the errors. This form allocates the Validation and, usually, a
+ * supplier capturing the checked inputs on every validation, besides the value and its Result;
+ * nothing is allocated for the errors until the first one is found. A Validation is a short-lived
+ * builder for one validation, used by a single thread.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Validation<String> validation = Validation.create();
+ * Amount amount = validation.check(Amount.parse(fields.get("amount")));
+ * Currency currency = validation.check(Currency.parse(fields.get("currency")));
+ * validation.check(fields.containsKey("merchant"), "merchant is required");
+ *
+ * Result<PaymentRequest, ValidationErrors<String>> request =
+ *     validation.complete(() -> new PaymentRequest(amount, currency, fields.get("merchant")));
+ * }</pre>
+ *
+ * @param <E> the type of the errors
+ */
+public final class Validation<E> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private E firstError;
+    private Object[] moreErrors;
+    private int moreErrorCount;
+
+    private Validation() {
+    }
+
+    /**
+     * Creates a validation with no errors.
+     *
+     * @param <E> the type of the errors
+     * @return a new Validation
+     */
+    public static <E> Validation<E> create() {
+        return new Validation<>();
+    }
+
+    /**
+     * Combines two validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            BiFunction<T1, T2, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData()));
+        }
+        return failure(r1, r2);
+    }
+
+    /**
+     * Combines three validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Function3<T1, T2, T3, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData()));
+        }
+        return failure(r1, r2, r3);
+    }
+
+    /**
+     * Combines four validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <T4>     the type of the fourth input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param r4       the fourth validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Function4<T1, T2, T3, T4, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess() && r4.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData(), r4.getData()));
+        }
+        return failure(r1, r2, r3, r4);
+    }
+
+    /**
+     * Combines five validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <T4>     the type of the fourth input's success value
+     * @param <T5>     the type of the fifth input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param r4       the fourth validated input
+     * @param r5       the fifth validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Function5<T1, T2, T3, T4, T5, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess() && r4.isSuccess()
+                && r5.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData(), r4.getData(),
+                    r5.getData()));
+        }
+        return failure(r1, r2, r3, r4, r5);
+    }
+
+    /**
+     * Combines six validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <T4>     the type of the fourth input's success value
+     * @param <T5>     the type of the fifth input's success value
+     * @param <T6>     the type of the sixth input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param r4       the fourth validated input
+     * @param r5       the fifth validated input
+     * @param r6       the sixth validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Function6<T1, T2, T3, T4, T5, T6, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess() && r4.isSuccess()
+                && r5.isSuccess() && r6.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData(), r4.getData(),
+                    r5.getData(), r6.getData()));
+        }
+        return failure(r1, r2, r3, r4, r5, r6);
+    }
+
+    /**
+     * Combines seven validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <T4>     the type of the fourth input's success value
+     * @param <T5>     the type of the fifth input's success value
+     * @param <T6>     the type of the sixth input's success value
+     * @param <T7>     the type of the seventh input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param r4       the fourth validated input
+     * @param r5       the fifth validated input
+     * @param r6       the sixth validated input
+     * @param r7       the seventh validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Result<T7, E> r7,
+            Function7<T1, T2, T3, T4, T5, T6, T7, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(r7, "r7 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess() && r4.isSuccess()
+                && r5.isSuccess() && r6.isSuccess() && r7.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData(), r4.getData(),
+                    r5.getData(), r6.getData(), r7.getData()));
+        }
+        return failure(r1, r2, r3, r4, r5, r6, r7);
+    }
+
+    /**
+     * Combines eight validated inputs: builds the value if every input is valid, otherwise fails
+     * with the errors of all the failed inputs, in order, without calling the combiner.
+     *
+     * @param <T1>     the type of the first input's success value
+     * @param <T2>     the type of the second input's success value
+     * @param <T3>     the type of the third input's success value
+     * @param <T4>     the type of the fourth input's success value
+     * @param <T5>     the type of the fifth input's success value
+     * @param <T6>     the type of the sixth input's success value
+     * @param <T7>     the type of the seventh input's success value
+     * @param <T8>     the type of the eighth input's success value
+     * @param <E>      the type of the errors
+     * @param <R>      the type of the combined value
+     * @param r1       the first validated input
+     * @param r2       the second validated input
+     * @param r3       the third validated input
+     * @param r4       the fourth validated input
+     * @param r5       the fifth validated input
+     * @param r6       the sixth validated input
+     * @param r7       the seventh validated input
+     * @param r8       the eighth validated input
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the errors
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, E, R> Result<R, ValidationErrors<E>> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Result<T7, E> r7,
+            Result<T8, E> r8,
+            Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(r7, "r7 cannot be null");
+        Objects.requireNonNull(r8, "r8 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess() && r3.isSuccess() && r4.isSuccess()
+                && r5.isSuccess() && r6.isSuccess() && r7.isSuccess() && r8.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData(), r3.getData(), r4.getData(),
+                    r5.getData(), r6.getData(), r7.getData(), r8.getData()));
+        }
+        return failure(r1, r2, r3, r4, r5, r6, r7, r8);
+    }
+
+    /**
+     * Checks a validated input, recording its error if it failed.
+     *
+     * @param <T>    the type of the success value
+     * @param result the validated input
+     * @return the success value, or null if the input failed
+     * @throws NullPointerException if result is null
+     */
+    public <T> T check(Result<T, E> result) {
+        Objects.requireNonNull(result, "result cannot be null");
+        if (result.isSuccess()) {
+            return result.getData();
+        }
+        record(result.getError());
+        return null;
+    }
+
+    /**
+     * Checks a condition, recording the given error if it does not hold.
+     *
+     * @param valid whether the condition holds
+     * @param error the error recorded if it does not, must not be null
+     * @return this Validation for chaining
+     * @throws NullPointerException if error is null
+     */
+    public Validation<E> check(boolean valid, E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        if (!valid) {
+            record(error);
+        }
+        return this;
+    }
+
+    /**
+     * Checks if no error has been recorded so far.
+     *
+     * @return true if every check passed
+     */
+    public boolean isValid() {
+        return firstError == null;
+    }
+
+    /**
+     * Completes the validation: builds the value if every check passed, otherwise fails with
+     * all the recorded errors without calling the supplier.
+     *
+     * @param <T>      the type of the value
+     * @param supplier builds the value from the checked inputs
+     * @return a Result containing the value, or the errors
+     * @throws NullPointerException if supplier is null
+     */
+    public <T> Result<T, ValidationErrors<E>> complete(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        if (firstError == null) {
+            return Result.success(supplier.get());
+        }
+        return Result.failure(errors());
+    }
+
+    private ValidationErrors<E> errors() {
+        if (moreErrorCount == 0) {
+            return ValidationErrors.of(firstError);
+        }
+        return ValidationErrors.of(firstError, Arrays.copyOf(moreErrors, moreErrorCount));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, E> Result<R, ValidationErrors<E>> failure(Result<?, ?>... results) {
+        Validation<E> validation = new Validation<>();
+        for (Result<?, ?> result : results) {
+            if (!result.isSuccess()) {
+                validation.record((E) result.getError());
+            }
+        }
+        return Result.failure(validation.errors());
+    }
+
+    private void record(E error) {
+        if (firstError == null) {
+            firstError = error;
+            return;
+        }
+        if (moreErrors == null) {
+            moreErrors = new Object[INITIAL_CAPACITY];
+        } else if (moreErrorCount == moreErrors.length) {
+            moreErrors = Arrays.copyOf(moreErrors, moreErrorCount * 2);
+        }
+        moreErrors[moreErrorCount++] = error;
+    }
+}
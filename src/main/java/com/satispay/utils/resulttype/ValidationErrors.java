@@ -0,0 +1,123 @@
+package com.satispay.utils.resulttype;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The errors collected by a {@link Validation}, in the order they were found; never empty.
+ *
+ * <p>The first error is held in a field of its own, so the common case of a single invalid field
+ * needs no array; further errors are held in an array sized to fit them.
+ *
+ * @param <E> the type of the errors
+ * @see Validation
+ */
+public final class ValidationErrors<E> implements Iterable<E>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Object[] NONE = new Object[0];
+
+    private final E first;
+    private final Object[] rest;
+
+    private ValidationErrors(E first, Object[] rest) {
+        this.first = first;
+        this.rest = rest;
+    }
+
+    /**
+     * Creates the errors of a validation that found a single error.
+     */
+    static <E> ValidationErrors<E> of(E first) {
+        return new ValidationErrors<>(first, NONE);
+    }
+
+    /**
+     * Creates the errors of a validation that found more than one error.
+     * The array holds the errors after the first one and must not be modified afterwards.
+     */
+    static <E> ValidationErrors<E> of(E first, Object[] rest) {
+        return new ValidationErrors<>(first, rest);
+    }
+
+    /**
+     * Returns the number of errors, at least one.
+     *
+     * @return the number of errors
+     */
+    public int size() {
+        return rest.length + 1;
+    }
+
+    /**
+     * Returns the first error found.
+     *
+     * @return the first error
+     */
+    public E first() {
+        return first;
+    }
+
+    /**
+     * Returns the error at the given position.
+     *
+     * @param index the position of the error, from 0 to {@link #size()} exclusive
+     * @return the error
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index == 0) {
+            return first;
+        }
+        if (index < 0 || index > rest.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return (E) rest[index - 1];
+    }
+
+    /**
+     * Returns an unmodifiable list view of the errors.
+     *
+     * @return the errors as a list
+     */
+    public List<E> toList() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                return ValidationErrors.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return ValidationErrors.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return toList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationErrors<?> errors = (ValidationErrors<?>) o;
+        return Objects.equals(first, errors.first) && Arrays.equals(rest, errors.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
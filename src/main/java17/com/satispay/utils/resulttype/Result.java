@@ -0,0 +1,1036 @@
+package com.satispay.utils.resulttype;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A type that represents the result of an operation that can either succeed with a value
+ * or fail with an error. This provides a type-safe alternative to exception-based error handling.
+ *
+ * <p>A Result is immutable and can be in one of two states:
+ * <ul>
+ *   <li>Success - contains a non-null value of type T, except the valueless {@link #unit()}</li>
+ *   <li>Failure - contains a non-null error of type E</li>
+ * </ul>
+ *
+ * <p>Each state is a subclass holding a single reference, the value or the error, so a Result
+ * takes 16 bytes on a 64-bit JVM with compressed references.
+ *
+ * <p>Java 17 version of this class: Result is sealed, {@link Success} and {@link Failure} being
+ * its only subclasses, which enables exhaustive pattern matching on Java 21+. They can be tested
+ * with type patterns:
+ * <pre>{@code
+ * if (result instanceof Result.Success<Payment, String> success) {
+ *     settle(success.value());
+ * }
+ * }</pre>
+ * and, from Java 21, with a switch that needs no default branch:
+ * <pre>{@code
+ * String outcome = switch (result) {
+ *     case Result.Success<Payment, String> success -> "Settled " + success.value().id();
+ *     case Result.Failure<Payment, String> failure -> "Rejected: " + failure.error();
+ * };
+ * }</pre>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Result<Integer, String> result = Result.success(42);
+ * if (result.isSuccess()) {
+ *     System.out.println("Value: " + result.getData());
+ * }
+ *
+ * Result<Integer, String> error = Result.failure("Something went wrong");
+ * String message = error.orElse(0);
+ * }</pre>
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ * @see LazyResult
+ */
+public abstract sealed class Result<T, E> implements Serializable permits Result.Success, Result.Failure {
+    private static final long serialVersionUID = 2L;
+
+    /**
+     * The success value of a {@link Success}, or the error of a {@link Failure}: the state is
+     * encoded in the class, so each instance holds a single reference.
+     */
+    private final Object value;
+
+    // Canonical instances, shared like the small values cached by Integer.valueOf
+    private static final Result<?, ?> UNIT = new Success<>(null);
+    private static final Result<?, ?> TRUE = new Success<>(Boolean.TRUE);
+    private static final Result<?, ?> FALSE = new Success<>(Boolean.FALSE);
+    /**
+     * The failures of each enum type, one slot per constant. The failures are held weakly, so the
+     * cache never keeps the constants, and with them the class loader of the enum, reachable.
+     * A failure is only created again once no one holds it anymore, which callers cannot observe.
+     */
+    private static final ClassValue<AtomicReferenceArray<WeakReference<Result<?, ?>>>> ENUM_FAILURES =
+            new ClassValue<AtomicReferenceArray<WeakReference<Result<?, ?>>>>() {
+                @Override
+                protected AtomicReferenceArray<WeakReference<Result<?, ?>>> computeValue(Class<?> enumType) {
+                    return new AtomicReferenceArray<>(enumType.getEnumConstants().length);
+                }
+            };
+
+    private Result(Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a successful Result containing the given value.
+     * A {@link Boolean} value returns one of two shared instances instead of allocating.
+     *
+     * @param <T>  the type of the success value
+     * @param <E>  the type of the error value
+     * @param data the success value, must not be null
+     * @return a successful Result containing the given value
+     * @throws NullPointerException if data is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> Result<T, E> success(T data) {
+        Objects.requireNonNull(data, "success data cannot be null");
+        if (data instanceof Boolean) {
+            return (Result<T, E>) ((Boolean) data ? TRUE : FALSE);
+        }
+        return new Success<>(data);
+    }
+
+    /**
+     * Returns the shared successful Result of an operation that produces no value.
+     * It is the only success whose {@link #getData()} returns null.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * public Result<Void, ErrorCode> validate(Payment payment) {
+     *     return payment.amount() > 0 ? Result.unit() : Result.failure(ErrorCode.INVALID_AMOUNT);
+     * }
+     * }</pre>
+     *
+     * @param <E> the type of the error value
+     * @return the successful Result without a value
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Result<Void, E> unit() {
+        return (Result<Void, E>) UNIT;
+    }
+
+    /**
+     * Creates a failed Result containing the given error.
+     * An {@link Enum} error returns the failure shared for that constant, so error codes
+     * modelled as enums do not allocate once in use: the failure of a constant is created the
+     * first time it is used as an error, and again only after it was garbage collected.
+     *
+     * @param <T>   the type of the success value
+     * @param <E>   the type of the error value
+     * @param error the error value, must not be null
+     * @return a failed Result containing the given error
+     * @throws NullPointerException if error is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> Result<T, E> failure(E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        if (error instanceof Enum) {
+            return (Result<T, E>) enumFailure((Enum<?>) error);
+        }
+        return new Failure<>(error);
+    }
+
+    private static Result<?, ?> enumFailure(Enum<?> constant) {
+        AtomicReferenceArray<WeakReference<Result<?, ?>>> failures = ENUM_FAILURES.get(constant.getDeclaringClass());
+        int ordinal = constant.ordinal();
+        while (true) {
+            WeakReference<Result<?, ?>> cached = failures.get(ordinal);
+            Result<?, ?> failure = cached == null ? null : cached.get();
+            if (failure != null) {
+                return failure;
+            }
+            failure = new Failure<>(constant);
+            if (failures.compareAndSet(ordinal, cached, new WeakReference<>(failure))) {
+                return failure;
+            }
+        }
+    }
+
+    /**
+     * Checks if this Result represents a success.
+     *
+     * @return true if this is a success, false if this is a failure
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns the success value.
+     * Returns null if this is a failure.
+     *
+     * @return the success value, or null if this is a failure
+     */
+    @SuppressWarnings("unchecked")
+    public T getData() {
+        return isSuccess() ? (T) value : null;
+    }
+
+    /**
+     * Returns the error value.
+     * Returns null if this is a success.
+     *
+     * @return the error value, or null if this is a success
+     */
+    @SuppressWarnings("unchecked")
+    public E getError() {
+        return isSuccess() ? null : (E) value;
+    }
+
+    // Functional methods
+
+    /**
+     * Converts the success value to an Optional.
+     * Returns empty Optional if this is a failure.
+     *
+     * @return an Optional containing the success value, or empty if this is a failure
+     */
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(getData());
+    }
+
+    /**
+     * Transforms the success value using the provided mapper function.
+     * If this is a failure, returns this same instance without allocating.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<Integer, String> result = Result.success(5);
+     * Result<String, String> mapped = result.map(i -> "Value: " + i);
+     * // mapped contains "Value: 5"
+     * }</pre>
+     *
+     * @param <U>    the type of the transformed value
+     * @param mapper the function to transform the success value
+     * @return a Result containing the transformed value, or the same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> Result<U, E> map(Function<T, U> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? Result.success(mapper.apply(successValue())) : asFailure();
+    }
+
+    /**
+     * Transforms the success value into an unboxed {@code int} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * IntResult<String> value = result.mapToInt(String::length);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return an IntResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see IntResult#boxed()
+     */
+    public IntResult<E> mapToInt(ToIntFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(successValue())) : IntResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value into an unboxed {@code long} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LongResult<String> value = result.mapToLong(Payment::getAmountInCents);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return a LongResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see LongResult#boxed()
+     */
+    public LongResult<E> mapToLong(ToLongFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(successValue())) : LongResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value into an unboxed {@code double} using the provided mapper function.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * DoubleResult<String> value = result.mapToDouble(Merchant::getRiskScore);
+     * }</pre>
+     *
+     * @param mapper the function to transform the success value
+     * @return a DoubleResult containing the transformed value, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see DoubleResult#boxed()
+     */
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(successValue())) : DoubleResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value using a function that returns an IntResult, continuing the
+     * chain with an unboxed {@code int} value.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * IntResult<String> quantity = result.flatMapToInt(text -> parseQuantity(text));
+     * }</pre>
+     *
+     * @param mapper the function that returns an IntResult
+     * @return the IntResult returned by the mapper, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see #mapToInt
+     */
+    public IntResult<E> flatMapToInt(Function<T, IntResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(successValue()) : IntResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value using a function that returns a LongResult, continuing the
+     * chain with an unboxed {@code long} value.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * LongResult<String> cents = result.flatMapToLong(text -> parseAmountInCents(text));
+     * }</pre>
+     *
+     * @param mapper the function that returns a LongResult
+     * @return the LongResult returned by the mapper, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see #mapToLong
+     */
+    public LongResult<E> flatMapToLong(Function<T, LongResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(successValue()) : LongResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value using a function that returns a DoubleResult, continuing the
+     * chain with an unboxed {@code double} value.
+     * If this is a failure, returns a failure with the same error.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * DoubleResult<String> rate = result.flatMapToDouble(text -> parseRate(text));
+     * }</pre>
+     *
+     * @param mapper the function that returns a DoubleResult
+     * @return the DoubleResult returned by the mapper, or a failure with the same error
+     * @throws NullPointerException if mapper is null
+     * @see #mapToDouble
+     */
+    public DoubleResult<E> flatMapToDouble(Function<T, DoubleResult<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(successValue()) : DoubleResult.failure(failureValue());
+    }
+
+    /**
+     * Transforms the success value using a function that returns a Result.
+     * Useful for chaining operations that may fail.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<Integer, String> result = Result.success(5);
+     * Result<Integer, String> doubled = result.flatMap(i ->
+     *     i > 10 ? Result.failure("Too large") : Result.success(i * 2)
+     * );
+     * }</pre>
+     *
+     * @param <U>    the type of the value in the returned Result
+     * @param mapper the function that returns a Result
+     * @return the Result returned by the mapper, or this same failure
+     * @throws NullPointerException if mapper is null
+     */
+    public <U> Result<U, E> flatMap(Function<T, Result<U, E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? mapper.apply(successValue()) : asFailure();
+    }
+
+    /**
+     * Transforms the error value using the provided mapper function.
+     * If this is a success, returns this same instance without allocating.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<Integer, String> result = Result.failure("error");
+     * Result<Integer, Integer> mapped = result.mapError(String::length);
+     * // mapped contains error value 5
+     * }</pre>
+     *
+     * @param <E2>   the type of the transformed error
+     * @param mapper the function to transform the error value
+     * @return a Result with the transformed error, or the same success
+     * @throws NullPointerException if mapper is null
+     */
+    public <E2> Result<T, E2> mapError(Function<E, E2> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return isSuccess() ? asSuccess() : Result.failure(mapper.apply(failureValue()));
+    }
+
+    /**
+     * Returns the success value or the provided default value if this is a failure.
+     *
+     * @param defaultValue the value to return if this is a failure
+     * @return the success value, or the default value if this is a failure
+     */
+    public T orElse(T defaultValue) {
+        return isSuccess() ? successValue() : defaultValue;
+    }
+
+    /**
+     * Returns the success value or throws an exception created by the provided function.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Integer value = result.orElseThrow(error -> new IllegalStateException(error));
+     * }</pre>
+     *
+     * @param exceptionMapper the function that creates an exception from the error
+     * @return the success value
+     * @throws RuntimeException      the exception created by the mapper if this is a failure
+     * @throws NullPointerException if exceptionMapper is null
+     */
+    public T orElseThrow(Function<E, ? extends RuntimeException> exceptionMapper) {
+        Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
+        if (isSuccess()) {
+            return successValue();
+        }
+        throw exceptionMapper.apply(failureValue());
+    }
+
+    /**
+     * Executes the provided consumer if this is a success.
+     * Returns this Result for chaining.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * result.ifSuccess(value -> System.out.println("Success: " + value))
+     *       .ifFailure(error -> System.err.println("Error: " + error));
+     * }</pre>
+     *
+     * @param consumer the action to execute on the success value
+     * @return this Result for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public Result<T, E> ifSuccess(Consumer<T> consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (isSuccess()) {
+            consumer.accept(successValue());
+        }
+        return this;
+    }
+
+    /**
+     * Executes the provided consumer if this is a failure.
+     * Returns this Result for chaining.
+     *
+     * @param consumer the action to execute on the error value
+     * @return this Result for chaining
+     * @throws NullPointerException if consumer is null
+     */
+    public Result<T, E> ifFailure(Consumer<E> consumer) {
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (!isSuccess()) {
+            consumer.accept(failureValue());
+        }
+        return this;
+    }
+
+    /**
+     * Recovers from a failure by applying the recovery function to the error.
+     * If this is a success, returns this Result unchanged.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<Integer, String> result = Result.failure("error");
+     * Result<Integer, String> recovered = result.recover(error -> 0);
+     * // recovered is Result.success(0)
+     * }</pre>
+     *
+     * @param recovery the function to convert the error to a success value
+     * @return a successful Result with the recovered value, or this Result if already successful
+     * @throws NullPointerException if recovery is null
+     */
+    public Result<T, E> recover(Function<E, T> recovery) {
+        Objects.requireNonNull(recovery, "recovery cannot be null");
+        return isSuccess() ? this : Result.success(recovery.apply(failureValue()));
+    }
+
+    /**
+     * Combines two Results using the provided combiner function.
+     * Returns a failure if either Result is a failure.
+     * If both Results are failures, returns the first failure.
+     * Failures are returned as the same instance that was passed in.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<Integer, String> r1 = Result.success(5);
+     * Result<Integer, String> r2 = Result.success(10);
+     * Result<Integer, String> combined = Result.combine(r1, r2, (a, b) -> a + b);
+     * // combined is Result.success(15)
+     * }</pre>
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <E>      the type of the error (must be the same for both Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or a failure if either Result failed
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            BiFunction<T1, T2, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (r1.isSuccess() && r2.isSuccess()) {
+            return Result.success(combiner.apply(r1.getData(), r2.getData()));
+        }
+        return r1.isSuccess() ? r2.asFailure() : r1.asFailure();
+    }
+
+    /**
+     * Combines three Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<PaymentRequest, String> request = Result.combine(
+     *     parseAmount(fields),
+     *     parseCurrency(fields),
+     *     parseMerchant(fields),
+     *     PaymentRequest::new
+     * );
+     * }</pre>
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Function3<T1, T2, T3, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        return Result.success(combiner.apply(r1.successValue(), r2.successValue(), r3.successValue()));
+    }
+
+    /**
+     * Combines four Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <T4>     the type of the fourth Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param r4       the fourth Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Function4<T1, T2, T3, T4, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        if (!r4.isSuccess()) {
+            return r4.asFailure();
+        }
+        return Result.success(combiner.apply(
+                r1.successValue(), r2.successValue(),
+                r3.successValue(), r4.successValue()));
+    }
+
+    /**
+     * Combines five Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <T4>     the type of the fourth Result's success value
+     * @param <T5>     the type of the fifth Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param r4       the fourth Result
+     * @param r5       the fifth Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Function5<T1, T2, T3, T4, T5, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        if (!r4.isSuccess()) {
+            return r4.asFailure();
+        }
+        if (!r5.isSuccess()) {
+            return r5.asFailure();
+        }
+        return Result.success(combiner.apply(
+                r1.successValue(), r2.successValue(), r3.successValue(),
+                r4.successValue(), r5.successValue()));
+    }
+
+    /**
+     * Combines six Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <T4>     the type of the fourth Result's success value
+     * @param <T5>     the type of the fifth Result's success value
+     * @param <T6>     the type of the sixth Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param r4       the fourth Result
+     * @param r5       the fifth Result
+     * @param r6       the sixth Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Function6<T1, T2, T3, T4, T5, T6, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        if (!r4.isSuccess()) {
+            return r4.asFailure();
+        }
+        if (!r5.isSuccess()) {
+            return r5.asFailure();
+        }
+        if (!r6.isSuccess()) {
+            return r6.asFailure();
+        }
+        return Result.success(combiner.apply(
+                r1.successValue(), r2.successValue(), r3.successValue(),
+                r4.successValue(), r5.successValue(), r6.successValue()));
+    }
+
+    /**
+     * Combines seven Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <T4>     the type of the fourth Result's success value
+     * @param <T5>     the type of the fifth Result's success value
+     * @param <T6>     the type of the sixth Result's success value
+     * @param <T7>     the type of the seventh Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param r4       the fourth Result
+     * @param r5       the fifth Result
+     * @param r6       the sixth Result
+     * @param r7       the seventh Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Result<T7, E> r7,
+            Function7<T1, T2, T3, T4, T5, T6, T7, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(r7, "r7 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        if (!r4.isSuccess()) {
+            return r4.asFailure();
+        }
+        if (!r5.isSuccess()) {
+            return r5.asFailure();
+        }
+        if (!r6.isSuccess()) {
+            return r6.asFailure();
+        }
+        if (!r7.isSuccess()) {
+            return r7.asFailure();
+        }
+        return Result.success(combiner.apply(
+                r1.successValue(), r2.successValue(), r3.successValue(), r4.successValue(),
+                r5.successValue(), r6.successValue(), r7.successValue()));
+    }
+
+    /**
+     * Combines eight Results using the provided combiner function.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * no intermediate Result is created.
+     *
+     * @param <T1>     the type of the first Result's success value
+     * @param <T2>     the type of the second Result's success value
+     * @param <T3>     the type of the third Result's success value
+     * @param <T4>     the type of the fourth Result's success value
+     * @param <T5>     the type of the fifth Result's success value
+     * @param <T6>     the type of the sixth Result's success value
+     * @param <T7>     the type of the seventh Result's success value
+     * @param <T8>     the type of the eighth Result's success value
+     * @param <E>      the type of the error (must be the same for all Results)
+     * @param <R>      the type of the combined result
+     * @param r1       the first Result
+     * @param r2       the second Result
+     * @param r3       the third Result
+     * @param r4       the fourth Result
+     * @param r5       the fifth Result
+     * @param r6       the sixth Result
+     * @param r7       the seventh Result
+     * @param r8       the eighth Result
+     * @param combiner the function to combine the success values
+     * @return a Result containing the combined value, or the first failure
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, E, R> Result<R, E> combine(
+            Result<T1, E> r1,
+            Result<T2, E> r2,
+            Result<T3, E> r3,
+            Result<T4, E> r4,
+            Result<T5, E> r5,
+            Result<T6, E> r6,
+            Result<T7, E> r7,
+            Result<T8, E> r8,
+            Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner) {
+        Objects.requireNonNull(r1, "r1 cannot be null");
+        Objects.requireNonNull(r2, "r2 cannot be null");
+        Objects.requireNonNull(r3, "r3 cannot be null");
+        Objects.requireNonNull(r4, "r4 cannot be null");
+        Objects.requireNonNull(r5, "r5 cannot be null");
+        Objects.requireNonNull(r6, "r6 cannot be null");
+        Objects.requireNonNull(r7, "r7 cannot be null");
+        Objects.requireNonNull(r8, "r8 cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+
+        if (!r1.isSuccess()) {
+            return r1.asFailure();
+        }
+        if (!r2.isSuccess()) {
+            return r2.asFailure();
+        }
+        if (!r3.isSuccess()) {
+            return r3.asFailure();
+        }
+        if (!r4.isSuccess()) {
+            return r4.asFailure();
+        }
+        if (!r5.isSuccess()) {
+            return r5.asFailure();
+        }
+        if (!r6.isSuccess()) {
+            return r6.asFailure();
+        }
+        if (!r7.isSuccess()) {
+            return r7.asFailure();
+        }
+        if (!r8.isSuccess()) {
+            return r8.asFailure();
+        }
+        return Result.success(combiner.apply(
+                r1.successValue(), r2.successValue(), r3.successValue(), r4.successValue(),
+                r5.successValue(), r6.successValue(), r7.successValue(), r8.successValue()));
+    }
+
+    /**
+     * Combines the success values of all the given Results into a list, in iteration order.
+     * Returns the first failure, as the same instance that was passed in, if any Result is a failure;
+     * the iteration stops there. The list is presized when the Results are a {@link Collection}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Result<List<LineItem>, String> items = Result.combineAll(
+     *     rawItems.stream().map(LineItem::parse).collect(Collectors.toList())
+     * );
+     * }</pre>
+     *
+     * @param <T>     the type of the success values
+     * @param <E>     the type of the error (must be the same for all Results)
+     * @param results the Results to combine
+     * @return a Result containing an unmodifiable list of the success values, or the first failure
+     * @throws NullPointerException if results or any of its elements is null
+     */
+    public static <T, E> Result<List<T>, E> combineAll(Iterable<? extends Result<? extends T, E>> results) {
+        Objects.requireNonNull(results, "results cannot be null");
+        List<T> values = results instanceof Collection
+                ? new ArrayList<>(((Collection<?>) results).size())
+                : new ArrayList<>();
+        for (Result<? extends T, E> result : results) {
+            if (!result.isSuccess()) {
+                return result.asFailure();
+            }
+            values.add(result.successValue());
+        }
+        return Result.success(Collections.unmodifiableList(values));
+    }
+
+    // Private helper methods
+
+    /**
+     * Returns the value as the success value, for callers that checked {@link #isSuccess()}.
+     */
+    @SuppressWarnings("unchecked")
+    private T successValue() {
+        return (T) value;
+    }
+
+    /**
+     * Returns the value as the error, for callers that checked {@link #isSuccess()}.
+     */
+    @SuppressWarnings("unchecked")
+    private E failureValue() {
+        return (E) value;
+    }
+
+    /**
+     * Reuses this failure as a Result of another success type.
+     * Safe because a failure never holds data.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Result<U, E> asFailure() {
+        return (Result<U, E>) this;
+    }
+
+    /**
+     * Reuses this success as a Result of another error type.
+     * Safe because a success never holds an error.
+     */
+    @SuppressWarnings("unchecked")
+    private <E2> Result<T, E2> asSuccess() {
+        return (Result<T, E2>) this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Result<?, ?> result = (Result<?, ?>) o;
+        return Objects.equals(value, result.value);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same values as Objects.hash(data, error) with the former two-field layout
+        return isSuccess() ? (31 + Objects.hashCode(value)) * 31 : 31 * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "Success(" + value + ")" : "Failure(" + value + ")";
+    }
+
+    /**
+     * A successful Result. Obtained from {@link Result#success(Object)}, never constructed directly.
+     * Deserializing {@link Result#unit()} or a {@link Boolean} success returns the shared instance.
+     *
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     */
+    public static final class Success<T, E> extends Result<T, E> {
+        private static final long serialVersionUID = 1L;
+
+        private Success(T data) {
+            super(data);
+        }
+
+        /**
+         * Returns the success value, the same as {@link #getData()}.
+         *
+         * @return the success value, null only for {@link Result#unit()}
+         */
+        public T value() {
+            return getData();
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        private Object readResolve() {
+            Object data = getData();
+            if (data == null) {
+                return UNIT;
+            }
+            if (data instanceof Boolean) {
+                return (Boolean) data ? TRUE : FALSE;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * A failed Result. Obtained from {@link Result#failure(Object)}, never constructed directly.
+     * Deserializing the failure of an {@link Enum} error returns the shared instance.
+     *
+     * @param <T> the type of the success value
+     * @param <E> the type of the error value
+     */
+    public static final class Failure<T, E> extends Result<T, E> {
+        private static final long serialVersionUID = 1L;
+
+        private Failure(E error) {
+            super(error);
+        }
+
+        /**
+         * Returns the error, the same as {@link #getError()}.
+         *
+         * @return the error, never null
+         */
+        public E error() {
+            return getError();
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        private Object readResolve() {
+            Object error = getError();
+            return error instanceof Enum ? enumFailure((Enum<?>) error) : this;
+        }
+    }
+}
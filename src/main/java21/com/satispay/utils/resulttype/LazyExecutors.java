@@ -0,0 +1,37 @@
+package com.satispay.utils.resulttype;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executors for evaluating {@link LazyResult}s asynchronously or concurrently.
+ *
+ * <p>Java 21 version of this class: {@link #defaultExecutor()} starts one virtual thread per task,
+ * so thousands of concurrent blocking evaluations need no sized thread pool.
+ */
+public final class LazyExecutors {
+    private static final ExecutorService VIRTUAL_THREAD_PER_TASK = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("lazy-result-", 0).factory());
+
+    private LazyExecutors() {
+    }
+
+    /**
+     * Returns the executor used when no executor is given: one virtual thread per task.
+     *
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return VIRTUAL_THREAD_PER_TASK;
+    }
+
+    /**
+     * Checks if {@link #defaultExecutor()} runs each task on its own virtual thread.
+     *
+     * @return true
+     */
+    public static boolean usesVirtualThreads() {
+        return true;
+    }
+}
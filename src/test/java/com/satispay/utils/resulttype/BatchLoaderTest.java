@@ -0,0 +1,282 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class BatchLoaderTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Set<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLoadConcurrentKeysInOneBatch() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withWindow(Duration.ofMillis(200));
+        List<LazyResult<String, String>> loads = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            loads.add(loader.load(i));
+        }
+
+        Result<List<String>, String> result = LazyResult.allOf(loads, executor).evaluate();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData()).isEqualTo(Arrays.asList("v1", "v2", "v3", "v4", "v5", "v6", "v7", "v8", "v9", "v10"));
+        assertThat(batches.size()).isEqualTo(1);
+        assertThat(batches.get(0).size()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldDispatchAsSoonAsTheBatchIsFull() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withWindow(Duration.ofSeconds(30))
+                .withMaxBatchSize(4);
+        List<LazyResult<String, String>> loads = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            loads.add(loader.load(i));
+        }
+
+        long start = System.nanoTime();
+        Result<List<String>, String> result = LazyResult.allOf(loads, executor).evaluate();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start).getSeconds()).isLessThan(10);
+        assertThat(batches.size()).isEqualTo(2);
+        assertThat(batches.get(0).size()).isEqualTo(4);
+        assertThat(batches.get(1).size()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldNotWaitForTheWindowOnEverySequentialLoad() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withWindow(Duration.ofSeconds(1));
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= 6; i++) {
+            assertThat(loader.load(i).evaluate().getData()).isEqualTo("v" + i);
+        }
+
+        // Only the first load waits for the window, as no other key joined its batch
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(4000);
+        assertThat(batches.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldBatchConcurrentKeysAfterSequentialLoads() {
+        // The batch function takes a round trip, during which the other keys arrive
+        BatchLoader<Integer, String, String> loader = BatchLoader.<Integer, String, String>create(
+                keys -> {
+                    sleep(100);
+                    return lookup(keys);
+                },
+                ex -> "Error"
+        ).withWindow(Duration.ofMillis(200));
+        loader.load(1).evaluate();
+        List<LazyResult<String, String>> loads = new ArrayList<>();
+        for (int i = 2; i <= 11; i++) {
+            loads.add(loader.load(i));
+        }
+
+        Result<List<String>, String> result = LazyResult.allOf(loads, executor).evaluate();
+
+        assertThat(result.isSuccess()).isTrue();
+        // The first concurrent key may find the loader idle and go alone, the others are batched
+        assertThat(batches.size()).isBetween(2, 3);
+    }
+
+    @Test
+    public void shouldNotFailTheBatchForTheDeadlineOfTheEvaluationOpeningIt() throws Exception {
+        BatchLoader<Integer, String, String> loader = BatchLoader.<Integer, String, String>create(
+                keys -> {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Interrupted");
+                    }
+                    return lookup(keys);
+                },
+                Exception::getMessage
+        ).withWindow(Duration.ofMillis(200));
+
+        Future<Result<String, String>> leader = executor.submit(
+                () -> loader.load(1).withTimeout(Duration.ofMillis(50), () -> "Timeout").evaluate());
+        sleep(50);
+        Result<String, String> waiter = loader.load(2).evaluate();
+
+        assertThat(waiter.getData()).isEqualTo("v2");
+        assertThat(leader.get().getError()).isEqualTo("Timeout");
+    }
+
+    @Test
+    public void shouldReturnThePerKeyResultOfTheBatchFunction() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withWindow(Duration.ZERO);
+
+        Result<String, String> found = loader.load(1).evaluate();
+        Result<String, String> notAllowed = loader.load(-1).evaluate();
+
+        assertThat(found.getData()).isEqualTo("v1");
+        assertThat(notAllowed.isSuccess()).isFalse();
+        assertThat(notAllowed.getError()).isEqualTo("Negative key -1");
+    }
+
+    @Test
+    public void shouldFailMissingKeysWithTheMappedNoSuchElementException() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, Exception::getMessage)
+                .withWindow(Duration.ZERO);
+
+        Result<String, String> result = loader.load(0).evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo("No result for key 0");
+    }
+
+    @Test
+    public void shouldFailMissingKeysWithTheConfiguredError() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withWindow(Duration.ZERO)
+                .withMissingKeyError(key -> "Unknown key " + key);
+
+        Result<String, String> result = loader.load(0).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Unknown key 0");
+    }
+
+    @Test
+    public void shouldFailEveryKeyOfTheBatchWhenTheBatchFunctionThrows() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.<Integer, String, String>create(
+                keys -> {
+                    batches.add(keys);
+                    throw new IllegalStateException("Database unavailable");
+                },
+                ex -> "Mapped: " + ex.getMessage()
+        ).withWindow(Duration.ofMillis(200));
+
+        Result<List<String>, String> result = LazyResult.allOf(Arrays.asList(loader.load(1), loader.load(2)), executor)
+                .evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo("Mapped: Database unavailable");
+        assertThat(batches.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailEveryKeyWithTheErrorOfAFailureException() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.<Integer, String, String>create(
+                keys -> {
+                    throw FailureException.of("Shard offline");
+                },
+                ex -> "Mapped"
+        ).withWindow(Duration.ZERO);
+
+        Result<String, String> result = loader.load(1).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Shard offline");
+    }
+
+    @Test
+    public void shouldRethrowWhenTheErrorMapperThrows() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.<Integer, String, String>create(
+                keys -> {
+                    throw new IllegalStateException("Database unavailable");
+                },
+                ex -> {
+                    throw new IllegalArgumentException("Mapper failed");
+                }
+        ).withWindow(Duration.ZERO);
+
+        assertThatThrownBy(() -> loader.load(1).evaluate())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Mapper failed");
+    }
+
+    @Test
+    public void shouldLoadManyKeysInOrderSplittingByMaxBatchSize() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withMaxBatchSize(2);
+
+        Result<List<String>, String> result = loader.loadMany(Arrays.asList(3, 1, 3, 2, 5)).evaluate();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData()).isEqualTo(Arrays.asList("v3", "v1", "v3", "v2", "v5"));
+        assertThat(batches.size()).isEqualTo(2);
+        assertThat(new ArrayList<>(batches.get(0))).isEqualTo(Arrays.asList(3, 1));
+        assertThat(new ArrayList<>(batches.get(1))).isEqualTo(Arrays.asList(2, 5));
+    }
+
+    @Test
+    public void shouldStopLoadingManyKeysAtTheFirstFailedKey() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error")
+                .withMaxBatchSize(2);
+
+        Result<List<String>, String> result = loader.loadMany(Arrays.asList(1, -2, 3, 4)).evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo("Negative key -2");
+        assertThat(batches.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldLoadNoKeysWithoutCallingTheBatchFunction() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error");
+
+        Result<List<String>, String> result = loader.loadMany(Collections.emptyList()).evaluate();
+
+        assertThat(result.getData()).isEqualTo(Collections.emptyList());
+        assertThat(batches.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRejectInvalidConfiguration() {
+        BatchLoader<Integer, String, String> loader = BatchLoader.create(this::lookup, ex -> "Error");
+
+        assertThatThrownBy(() -> loader.withMaxBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxBatchSize must be positive");
+        assertThatThrownBy(() -> loader.withWindow(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("window cannot be negative");
+        assertThatThrownBy(() -> loader.load(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("key cannot be null");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<Integer, Result<String, String>> lookup(Set<Integer> keys) {
+        batches.add(keys);
+        Map<Integer, Result<String, String>> results = new HashMap<>();
+        for (Integer key : keys) {
+            if (key < 0) {
+                results.put(key, Result.failure("Negative key " + key));
+            } else if (key > 0) {
+                results.put(key, Result.success("v" + key));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,168 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final LazyResult<String, String> dependency = LazyResult.create(
+            () -> {
+                calls.incrementAndGet();
+                if (!healthy.get()) {
+                    throw new IllegalStateException("Dependency down");
+                }
+                return "ok";
+            },
+            Exception::getMessage
+    );
+
+    private final CircuitBreaker<String> breaker = CircuitBreaker.<String>create(() -> "Circuit open")
+            .withSlidingWindow(Duration.ofSeconds(10), 4)
+            .withFailureRateThreshold(0.5)
+            .withCoolDown(Duration.ofSeconds(30))
+            .withClock(clock::get);
+
+    @Test
+    public void shouldStayClosedBelowMinimumCalls() {
+        healthy.set(false);
+
+        evaluate(3);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldStayClosedBelowFailureRateThreshold() {
+        evaluate(3);
+        healthy.set(false);
+        evaluate(1);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldOpenAndShortCircuitWithoutCallingSupplier() {
+        healthy.set(false);
+        evaluate(4);
+        calls.set(0);
+
+        Result<String, String> result = dependency.withCircuitBreaker(breaker).evaluate();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result.getError()).isEqualTo("Circuit open");
+        assertThat(calls.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldForgetOutcomesOlderThanWindow() {
+        healthy.set(false);
+        evaluate(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        healthy.set(true);
+        evaluate(3);
+        healthy.set(false);
+        evaluate(1);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldCloseAfterSuccessfulProbe() {
+        healthy.set(false);
+        evaluate(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        healthy.set(true);
+
+        Result<String, String> probe = dependency.withCircuitBreaker(breaker).evaluate();
+
+        assertThat(probe.getData()).isEqualTo("ok");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldReopenAfterFailedProbe() {
+        healthy.set(false);
+        evaluate(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        calls.set(0);
+
+        evaluate(1);
+        Result<String, String> result = dependency.withCircuitBreaker(breaker).evaluate();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result.getError()).isEqualTo("Circuit open");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldLetOnlyConfiguredProbesThroughWhenHalfOpen() {
+        CircuitBreaker<String> twoProbes = breaker.withProbes(2);
+        healthy.set(false);
+        for (int i = 0; i < 4; i++) {
+            dependency.withCircuitBreaker(twoProbes).evaluate();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        // Each probe evaluates the next one while still in flight
+        LazyResult<String, String> third = dependency.withCircuitBreaker(twoProbes);
+        LazyResult<String, String> second = LazyResult.create(() -> third.evaluate().getError(), ex -> "Error")
+                .withCircuitBreaker(twoProbes);
+        LazyResult<String, String> first = LazyResult.create(() -> second.evaluate().getData(), ex -> "Error")
+                .withCircuitBreaker(twoProbes);
+        calls.set(0);
+
+        Result<String, String> result = first.evaluate();
+
+        assertThat(result.getData()).isEqualTo("Circuit open");
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(twoProbes.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldNotCountFailuresRejectedByPredicate() {
+        CircuitBreaker<String> ignoringDown = breaker.countFailureIf(error -> !error.equals("Dependency down"));
+        healthy.set(false);
+
+        for (int i = 0; i < 10; i++) {
+            dependency.withCircuitBreaker(ignoringDown).evaluate();
+        }
+
+        assertThat(ignoringDown.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldRejectInvalidFailureRateThreshold() {
+        assertThatThrownBy(() -> breaker.withFailureRateThreshold(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failureRateThreshold must be greater than 0 and at most 1");
+    }
+
+    @Test
+    public void shouldNotLoseNewerCountsToOutcomeRecordedWithStaleTime() {
+        healthy.set(false);
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        evaluate(3);
+
+        // Same slot of the window, one full window earlier, as read by a thread that lagged behind
+        clock.set(0);
+        evaluate(1);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void evaluate(int times) {
+        for (int i = 0; i < times; i++) {
+            dependency.withCircuitBreaker(breaker).evaluate();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void shouldRejectWithoutEvaluatingWhenLimitIsReached() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(1, 1, 1)
+                .withClock(clock::get);
+        AtomicInteger innerCalls = new AtomicInteger();
+        LazyResult<String, String> inner = LazyResult.<String, String>create(
+                () -> {
+                    innerCalls.incrementAndGet();
+                    return "inner";
+                },
+                ex -> "Error"
+        ).withConcurrencyLimiter(limiter);
+        AtomicInteger inFlightDuringOuter = new AtomicInteger();
+        LazyResult<String, String> outer = LazyResult.<String, String>create(
+                () -> {
+                    inFlightDuringOuter.set(limiter.inFlight());
+                    return inner.evaluate().getError();
+                },
+                ex -> "Error"
+        ).withConcurrencyLimiter(limiter);
+
+        Result<String, String> result = outer.evaluate();
+
+        assertThat(result.getData()).isEqualTo("Overloaded");
+        assertThat(innerCalls.get()).isEqualTo(0);
+        assertThat(inFlightDuringOuter.get()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+        assertThat(limiter.rejections()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldReleasePermitWhenEvaluationThrows() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(1, 1, 1);
+        LazyResult<String, String> throwing = LazyResult.<String, String>create(
+                () -> {
+                    throw new IllegalStateException("Boom");
+                },
+                ex -> {
+                    throw new IllegalArgumentException("Mapper failed");
+                }
+        ).withConcurrencyLimiter(limiter);
+
+        assertThatThrownBy(throwing::evaluate).isInstanceOf(IllegalArgumentException.class);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldGrowLimitWhileLatencyIsStableAndLimitIsInUse() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(10, 1, 1000)
+                .withSmoothing(1);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(FAST, limiter.limit());
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    public void shouldNotGrowLimitWhileMostOfItIsUnused() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(10, 1, 1000)
+                .withSmoothing(1);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(FAST, 2);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldShrinkLimitWhenLatencyRises() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(100, 1, 100)
+                .withSmoothing(1);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(FAST, 100);
+        }
+
+        limiter.onSample(SLOW, 100);
+
+        // At most halved per sample, plus the square root of the limit as headroom
+        assertThat(limiter.limit()).isEqualTo(60);
+    }
+
+    @Test
+    public void shouldKeepLimitWithinBounds() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.<String>create(() -> "Overloaded")
+                .withLimits(6, 5, 12)
+                .withSmoothing(1);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FAST, limiter.limit());
+        }
+        assertThat(limiter.limit()).isEqualTo(12);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(SLOW * (i + 2), limiter.limit());
+        }
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldRejectUnorderedLimits() {
+        ConcurrencyLimiter<String> limiter = ConcurrencyLimiter.create(() -> "Overloaded");
+
+        assertThatThrownBy(() -> limiter.withLimits(5, 10, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("limits must satisfy 0 < min <= initial <= max");
+    }
+}
@@ -0,0 +1,57 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class DoubleResultTest {
+    // The behaviour shared by the primitive specializations is covered once, in IntResultTest
+
+    @Test
+    public void shouldTreatNaNAsEqualToItself() {
+        DoubleResult<String> nan = DoubleResult.success(Double.NaN);
+
+        assertThat(nan).isEqualTo(DoubleResult.success(0.0 / 0.0));
+        assertThat(nan.hashCode()).isEqualTo(DoubleResult.success(0.0 / 0.0).hashCode());
+        assertThat(nan.toOptional()).isEqualTo(OptionalDouble.of(Double.NaN));
+    }
+
+    @Test
+    public void shouldDistinguishNegativeZeroFromZero() {
+        assertThat(DoubleResult.success(-0.0)).isNotEqualTo(DoubleResult.success(0.0));
+        assertThat(DoubleResult.success(-0.0).toString()).isEqualTo("Success(-0.0)");
+        assertThat(DoubleResult.<String>failure("Error").getData()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void shouldBridgeToAndFromResult() {
+        Result<Double, String> boxed = DoubleResult.<String>success(5.0).boxed();
+
+        assertThat(boxed.getData()).isEqualTo(5.0);
+        assertThat(boxed.mapToDouble(Double::doubleValue)).isEqualTo(DoubleResult.success(5.0));
+        assertThat(Result.<Double, String>failure("Error").mapToDouble(Double::doubleValue).getError())
+                .isEqualTo("Error");
+        assertThat(DoubleResult.<String>failure("Error").boxed()).isEqualTo(Result.failure("Error"));
+    }
+
+    @Test
+    public void shouldFlatMapToDoubleFromResult() {
+        DoubleResult<String> rate = Result.<String, String>success("0.25")
+                .flatMapToDouble(text -> DoubleResult.success(Double.parseDouble(text)));
+
+        assertThat(rate).isEqualTo(DoubleResult.success(0.25));
+        assertThat(Result.<String, String>failure("Error").flatMapToDouble(text -> DoubleResult.success(1.0)).getError())
+                .isEqualTo("Error");
+    }
+
+    @Test
+    public void shouldMapToTheOtherSpecializations() {
+        DoubleResult<String> result = DoubleResult.success(2.6);
+
+        assertThat(result.mapToLong(Math::round)).isEqualTo(LongResult.success(3L));
+        assertThat(result.mapToInt(d -> (int) d)).isEqualTo(IntResult.success(2));
+        assertThat(DoubleResult.<String>failure("Error").mapToLong(Math::round)).isEqualTo(LongResult.failure("Error"));
+    }
+}
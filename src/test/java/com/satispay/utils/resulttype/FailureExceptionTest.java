@@ -0,0 +1,130 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class FailureExceptionTest {
+
+    private static final FailureException NOT_FOUND = FailureException.of("Not found");
+
+    @Test
+    public void shouldFailWithCarriedErrorWithoutCallingErrorMapper() {
+        final boolean[] mapperCalled = {false};
+
+        Result<Integer, String> result = LazyResult.<Integer, String>create(
+                () -> {
+                    throw NOT_FOUND;
+                },
+                ex -> {
+                    mapperCalled[0] = true;
+                    return "Error";
+                }
+        ).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Not found");
+        assertThat(mapperCalled[0]).isFalse();
+    }
+
+    @Test
+    public void shouldFailAtThePointOfTheChainWhereItIsThrown() {
+        Result<Integer, Integer> result = LazyResult.<Integer, String>create(() -> 1, ex -> "Error")
+                .mapError(String::length)
+                .map(i -> {
+                    throw FailureException.of(404);
+                })
+                .map(i -> 0)
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo(404);
+    }
+
+    @Test
+    public void shouldApplyErrorOperationsChainedAfterIt() {
+        Result<Integer, Integer> mapped = LazyResult.<Integer, String>create(
+                () -> {
+                    throw NOT_FOUND;
+                },
+                ex -> "Error"
+        ).mapError(String::length).evaluate();
+        Result<Integer, String> recovered = LazyResult.<Integer, String>create(
+                () -> {
+                    throw NOT_FOUND;
+                },
+                ex -> "Error"
+        ).recover(String::length).evaluate();
+
+        assertThat(mapped.getError()).isEqualTo(9);
+        assertThat(recovered.getData()).isEqualTo(9);
+    }
+
+    @Test
+    public void shouldFailFromResultSupplierAndFlatMap() {
+        Result<Integer, String> fromSupplier = LazyResult.<Integer, String>fromResultSupplier(
+                () -> {
+                    throw NOT_FOUND;
+                },
+                ex -> "Error"
+        ).evaluate();
+        Result<Integer, String> fromFlatMap = LazyResult.<Integer, String>create(() -> 1, ex -> "Error")
+                .flatMap(i -> LazyResult.<Integer, String>create(
+                        () -> {
+                            throw NOT_FOUND;
+                        },
+                        ex -> "Inner error"
+                ))
+                .evaluate();
+
+        assertThat(fromSupplier.getError()).isEqualTo("Not found");
+        assertThat(fromFlatMap.getError()).isEqualTo("Not found");
+    }
+
+    @Test
+    public void shouldNotCaptureStackTraceOrSuppressedExceptions() {
+        FailureException exception = FailureException.of("Not found");
+        exception.addSuppressed(new IllegalStateException("Ignored"));
+
+        assertThat(exception.getStackTrace().length).isEqualTo(0);
+        assertThat(exception.getSuppressed().length).isEqualTo(0);
+        assertThat(exception.getMessage()).isEqualTo("Not found");
+    }
+
+    @Test
+    public void shouldSurviveSerializationWithItsError() throws Exception {
+        FailureException exception = (FailureException) roundTrip(FailureException.of(404));
+
+        assertThat(exception.<Integer>getError()).isEqualTo(404);
+        assertThat(exception.getMessage()).isEqualTo("404");
+    }
+
+    @Test
+    public void shouldFailToSerializeNonSerializableError() {
+        FailureException exception = FailureException.of(new Object());
+
+        assertThatThrownBy(() -> roundTrip(exception)).isInstanceOf(NotSerializableException.class);
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullError() {
+        assertThatThrownBy(() -> FailureException.of(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("error cannot be null");
+    }
+
+    private static Object roundTrip(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 8, "test-timer");
+
+    @Test
+    public void shouldRunTaskAfterDelay() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    @Test
+    public void shouldRunTaskDueAfterSeveralRoundsOfTheWheel() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void shouldNotRunCancelledTask() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(timeout.cancel()).isTrue();
+        timer.schedule(later::countDown, TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertThat(later.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isEqualTo(0);
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void shouldNotCancelTaskThatAlreadyRan() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(fired::countDown, 0);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void shouldKeepRunningAfterFailingTask() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timer.schedule(() -> {
+            throw new IllegalStateException("Boom");
+        }, 0);
+        timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldReportFailingTaskAndKeepRunningAfterError() throws Exception {
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        AtomicReference<Throwable> reported = new AtomicReference<>();
+        CountDownLatch fired = new CountDownLatch(1);
+        Thread.setDefaultUncaughtExceptionHandler((thread, ex) -> reported.set(ex));
+        try {
+            timer.schedule(() -> {
+                throw new AssertionError("Boom");
+            }, 0);
+            timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(reported.get()).isInstanceOf(AssertionError.class).hasMessage("Boom");
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+    }
+
+    @Test
+    public void shouldRunManyTasks() throws Exception {
+        int tasks = 50_000;
+        CountDownLatch fired = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            timer.schedule(fired::countDown, TimeUnit.MILLISECONDS.toNanos(i % 50));
+        }
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldRejectWheelSizeThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new HashedWheelTimer(1, 6, "test-timer"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("wheelSize must be a power of two");
+    }
+}
@@ -0,0 +1,143 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class HedgerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldNotHedgeEvaluationCompletingBeforeDelay() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<String, String> fast = LazyResult.create(() -> "replica-" + calls.incrementAndGet(), ex -> "Error");
+
+        Result<String, String> result = fast.hedged(HedgePolicy.afterDelay(Duration.ofSeconds(5)), executor).evaluate();
+
+        assertThat(result.getData()).isEqualTo("replica-1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReturnHedgeAndInterruptSlowEvaluation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LazyResult<String, String> firstSlow = LazyResult.create(
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return "slow";
+                    }
+                    return "hedge";
+                },
+                ex -> "Error"
+        );
+
+        Result<String, String> result = firstSlow
+                .hedged(HedgePolicy.afterDelay(Duration.ofMillis(20)), executor)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo("hedge");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldStartAtMostMaxHedges() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<String, String> slow = LazyResult.create(
+                () -> {
+                    int call = calls.incrementAndGet();
+                    sleep(call == 3 ? 60 : 200);
+                    return "call-" + call;
+                },
+                ex -> "Error"
+        );
+
+        Result<String, String> result = slow
+                .hedged(HedgePolicy.afterDelay(Duration.ofMillis(10)).withMaxHedges(2), executor)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo("call-3");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnFailureWithoutHedging() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<String, String> failing = LazyResult.create(
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("Not found");
+                },
+                Exception::getMessage
+        );
+
+        Result<String, String> result = failing
+                .hedged(HedgePolicy.afterDelay(Duration.ofMillis(50)), executor)
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Not found");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldMapRejectedEvaluationToFailure() {
+        LazyResult<String, String> lazyResult = LazyResult.create(() -> "value", ex -> "Rejected: " + ex.getMessage());
+
+        Result<String, String> result = lazyResult.hedged(HedgePolicy.afterDelay(Duration.ZERO), runnable -> {
+            throw new RejectedExecutionException("Queue full");
+        }).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Rejected: Queue full");
+    }
+
+    @Test
+    public void shouldAdaptDelayToObservedPercentile() {
+        LazyResult<String, String> lazyResult = LazyResult.create(() -> "value", ex -> "Error");
+        Hedger<String, String> hedger = new Hedger<>(lazyResult, HedgePolicy.atPercentile(50), executor, ex -> "Error");
+        long initialDelay = hedger.delayNanos();
+
+        for (int i = 0; i < 2 * HedgePolicy.MIN_SAMPLES; i++) {
+            hedger.get();
+        }
+
+        assertThat(initialDelay).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(hedger.delayNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    public void shouldRejectPercentileOutOfRange() {
+        assertThatThrownBy(() -> HedgePolicy.atPercentile(100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("percentile must be between 0 and 100 exclusive");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class IntResultTest {
+
+    @Test
+    public void shouldCreateSuccessResult() {
+        IntResult<String> result = IntResult.success(5);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData()).isEqualTo(5);
+        assertThat(result.getError()).isNull();
+    }
+
+    @Test
+    public void shouldCreateFailureResult() {
+        IntResult<String> result = IntResult.failure("Error occurred");
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo("Error occurred");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCreatingFailureWithNull() {
+        assertThatThrownBy(() -> IntResult.failure(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("error cannot be null");
+    }
+
+    @Test
+    public void shouldMapSuccessValue() {
+        IntResult<String> mapped = IntResult.<String>success(5).map(i -> i * 2);
+
+        assertThat(mapped.isSuccess()).isTrue();
+        assertThat(mapped.getData()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldReuseFailureInstanceWhenMapping() {
+        IntResult<String> result = IntResult.failure("Error");
+
+        assertThat(result.map(i -> i * 2)).isSameAs(result);
+        assertThat(result.flatMap(i -> IntResult.success(i))).isSameAs(result);
+    }
+
+    @Test
+    public void shouldMapToLong() {
+        LongResult<String> mapped = IntResult.<String>success(5).mapToLong(i -> (long) i * 1000);
+
+        assertThat(mapped.isSuccess()).isTrue();
+        assertThat(mapped.getData()).isEqualTo(5000L);
+    }
+
+    @Test
+    public void shouldMapToObj() {
+        Result<String, String> mapped = IntResult.<String>success(5).mapToObj(i -> "Number: " + i);
+
+        assertThat(mapped.getData()).isEqualTo("Number: " + 5);
+    }
+
+    @Test
+    public void shouldPreserveErrorWhenMappingToObj() {
+        Result<String, String> mapped = IntResult.<String>failure("Error").mapToObj(i -> "Number: " + i);
+
+        assertThat(mapped.isSuccess()).isFalse();
+        assertThat(mapped.getError()).isEqualTo("Error");
+    }
+
+    @Test
+    public void shouldFlatMapToFailure() {
+        IntResult<String> flatMapped = IntResult.<String>success(5).flatMap(i -> IntResult.failure("Failed"));
+
+        assertThat(flatMapped.isSuccess()).isFalse();
+        assertThat(flatMapped.getError()).isEqualTo("Failed");
+    }
+
+    @Test
+    public void shouldMapErrorValue() {
+        IntResult<Integer> mapped = IntResult.<String>failure("Error").mapError(String::length);
+
+        assertThat(mapped.getError()).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldRecoverFromFailure() {
+        IntResult<String> recovered = IntResult.<String>failure("Error").recover(error -> 5);
+
+        assertThat(recovered.isSuccess()).isTrue();
+        assertThat(recovered.getData()).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldReturnDefaultValueWithOrElse() {
+        assertThat(IntResult.<String>failure("Error").orElse(10)).isEqualTo(10);
+        assertThat(IntResult.<String>success(5).orElse(10)).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldThrowExceptionWithOrElseThrow() {
+        IntResult<String> result = IntResult.failure("Error message");
+
+        assertThatThrownBy(() -> result.orElseThrow(RuntimeException::new))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Error message");
+    }
+
+    @Test
+    public void shouldExecuteIfSuccessOnlyOnSuccess() {
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        IntResult.<String>failure("Error").ifSuccess(value -> executed.set(true));
+        assertThat(executed.get()).isFalse();
+
+        IntResult.<String>success(5).ifSuccess(value -> executed.set(true));
+        assertThat(executed.get()).isTrue();
+    }
+
+    @Test
+    public void shouldCombineTwoSuccesses() {
+        IntResult<String> combined = IntResult.combine(IntResult.success(5), IntResult.success(10), (x, y) -> x + y);
+
+        assertThat(combined.getData()).isEqualTo(15);
+    }
+
+    @Test
+    public void shouldFailCombineIfFirstFails() {
+        IntResult<String> r1 = IntResult.failure("Error 1");
+        IntResult<String> r2 = IntResult.failure("Error 2");
+
+        assertThat(IntResult.combine(r1, r2, (x, y) -> x + y)).isSameAs(r1);
+    }
+
+    @Test
+    public void shouldConvertToOptional() {
+        assertThat(IntResult.<String>success(5).toOptional()).isEqualTo(OptionalInt.of(5));
+        assertThat(IntResult.<String>failure("Error").toOptional()).isEqualTo(OptionalInt.empty());
+    }
+
+    @Test
+    public void shouldBridgeToAndFromResult() {
+        Result<Integer, String> boxed = IntResult.<String>success(5).boxed();
+        IntResult<String> unboxed = boxed.mapToInt(Integer::intValue);
+
+        assertThat(boxed.getData()).isEqualTo(5);
+        assertThat(unboxed).isEqualTo(IntResult.success(5));
+        assertThat(Result.<Integer, String>failure("Error").mapToInt(Integer::intValue).getError())
+                .isEqualTo("Error");
+    }
+
+    @Test
+    public void shouldFlatMapToIntFromResult() {
+        IntResult<String> quantity = Result.<String, String>success("3")
+                .flatMapToInt(text -> IntResult.success(Integer.parseInt(text)));
+
+        assertThat(quantity).isEqualTo(IntResult.success(3));
+        assertThat(Result.<String, String>failure("Error").flatMapToInt(text -> IntResult.success(1)).getError())
+                .isEqualTo("Error");
+        assertThat(IntResult.<String>failure("Error").getData()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldHaveCorrectToStringAndEquals() {
+        assertThat(IntResult.success(5).toString()).isEqualTo("Success(" + 5 + ")");
+        assertThat(IntResult.failure("Error").toString()).isEqualTo("Failure(Error)");
+        assertThat(IntResult.success(5)).isEqualTo(IntResult.success(5));
+        assertThat(IntResult.success(5).hashCode()).isEqualTo(IntResult.success(5).hashCode());
+        assertThat(IntResult.success(5)).isNotEqualTo(IntResult.success(10));
+    }
+}
@@ -0,0 +1,52 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldReturnMinusOneWithoutSamples() {
+        assertThat(new LatencyHistogram().percentile(99)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void shouldEstimatePercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertThat(histogram.percentile(50)).isBetween(500_000L, 560_000L);
+        assertThat(histogram.percentile(99)).isBetween(990_000L, 1_110_000L);
+    }
+
+    @Test
+    public void shouldMapEveryValueToBucketContainingIt() {
+        long[] values = {0, 1, 7, 8, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE};
+
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertThat(LatencyHistogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFollowRecentLatenciesAfterDecay() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 1024; i++) {
+            histogram.record(1_000_000);
+        }
+        for (int i = 0; i < 8 * 1024; i++) {
+            histogram.record(1_000);
+        }
+
+        assertThat(histogram.percentile(99)).isLessThan(2_000L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class LazyExecutorsTest {
+
+    @Test
+    public void shouldRunTasksOnDefaultExecutor() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        LazyExecutors.defaultExecutor().execute(ran::countDown);
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldEvaluateAsynchronouslyOnDefaultExecutor() throws Exception {
+        Result<Integer, String> result = LazyResult.<Integer, String>create(() -> 42, ex -> "Error")
+                .evaluateAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getData()).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldRunTasksOnVirtualThreadsOnlyWhenReported() throws Exception {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> runner = new CompletableFuture<>();
+
+        LazyExecutors.defaultExecutor().execute(() -> runner.complete(Thread.currentThread()));
+        Thread thread = runner.get(5, TimeUnit.SECONDS);
+
+        // Holds for the base classes and for the Java 21 layer of the JAR alike
+        assertThat(thread).isNotSameAs(caller);
+        assertThat(isVirtual(thread)).isEqualTo(LazyExecutors.usesVirtualThreads());
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException ex) {
+            // No virtual threads before Java 21
+            return false;
+        }
+    }
+}
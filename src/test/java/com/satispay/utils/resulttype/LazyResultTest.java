@@ -3,6 +3,18 @@ package com.satispay.utils.resulttype;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
@@ -481,4 +493,477 @@ public class LazyResultTest {
         assertThat(result.getData()).isEqualTo("Final: 50");
         assertThat(peekedValue[0]).isEqualTo(20);
     }
+
+    @Test
+    public void shouldEvaluateVeryLongMapChainWithoutStackOverflow() {
+        LazyResult<Integer, String> lazyResult = LazyResult.create(() -> 0, ex -> "Error");
+        for (int i = 0; i < 100_000; i++) {
+            lazyResult = lazyResult.map(x -> x + 1);
+        }
+
+        Result<Integer, String> result = lazyResult.evaluate();
+
+        assertThat(result.getData()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldEvaluateVeryLongFailingChainWithoutStackOverflow() {
+        LazyResult<Integer, String> lazyResult = LazyResult.create(
+                () -> {
+                    throw new RuntimeException("Failed");
+                },
+                ex -> ex.getMessage()
+        );
+        for (int i = 0; i < 100_000; i++) {
+            lazyResult = lazyResult.map(x -> x + 1).mapError(String::trim);
+        }
+
+        Result<Integer, String> result = lazyResult.recover(String::length).evaluate();
+
+        assertThat(result.getData()).isEqualTo(6); // "Failed".length()
+    }
+
+    @Test
+    public void shouldEvaluateDeeplyNestedFlatMapsWithoutStackOverflow() {
+        Result<Integer, String> result = countDown(100_000).evaluate();
+
+        assertThat(result.getData()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldRecoverUsingErrorMappersPrecedingRecovery() {
+        Result<Integer, String> result = LazyResult.<Integer, String>create(
+                        () -> {
+                            throw new RuntimeException("Failed");
+                        },
+                        ex -> ex.getMessage()
+                )
+                .mapError(error -> "Mapped: " + error)
+                .recover(error -> error.length())
+                .mapError(error -> "Not applied before recovery: " + error)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(14); // "Mapped: Failed".length()
+    }
+
+    @Test
+    public void shouldKeepBranchesIndependentWhenFusingMaps() {
+        LazyResult<Integer, String> base = LazyResult.<Integer, String>create(() -> 1, ex -> "Error")
+                .map(i -> i + 1);
+
+        LazyResult<Integer, String> doubled = base.map(i -> i * 2);
+        LazyResult<Integer, String> negated = base.map(i -> -i);
+
+        assertThat(base.evaluate().getData()).isEqualTo(2);
+        assertThat(doubled.evaluate().getData()).isEqualTo(4);
+        assertThat(negated.evaluate().getData()).isEqualTo(-2);
+    }
+
+    @Test
+    public void shouldStopFusedMapsAtFirstException() {
+        final int[] calls = {0};
+        LazyResult<Integer, String> lazyResult = LazyResult.create(() -> 0, ex -> ex.getMessage());
+        for (int i = 0; i < 20; i++) {
+            int stage = i;
+            lazyResult = lazyResult.map(x -> {
+                calls[0]++;
+                if (stage == 10) {
+                    throw new IllegalStateException("Stage " + stage + " failed");
+                }
+                return x + 1;
+            });
+        }
+
+        Result<Integer, String> result = lazyResult.evaluate();
+
+        assertThat(result.getError()).isEqualTo("Stage 10 failed");
+        assertThat(calls[0]).isEqualTo(11);
+    }
+
+    @Test
+    public void shouldApplyFusedErrorMappersInOrder() {
+        LazyResult<Integer, String> lazyResult = LazyResult.create(
+                () -> {
+                    throw new RuntimeException("Failed");
+                },
+                ex -> ex.getMessage()
+        );
+        for (int i = 0; i < 20; i++) {
+            int stage = i;
+            lazyResult = lazyResult.mapError(error -> error + stage % 10);
+        }
+
+        Result<Integer, String> result = lazyResult.evaluate();
+
+        assertThat(result.getError()).isEqualTo("Failed01234567890123456789");
+    }
+
+    @Test
+    public void shouldMapNullSupplierValueToFailure() {
+        Result<String, String> result = LazyResult.<String, String>create(
+                () -> null,
+                ex -> "Mapped: " + ex.getClass().getSimpleName()
+        ).evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo("Mapped: NullPointerException");
+    }
+
+    @Test
+    public void shouldMapNullMapperValueToFailureThroughErrorMappers() {
+        Result<String, Integer> result = LazyResult.<Integer, String>create(() -> 42, ex -> "Null value")
+                .map(i -> (String) null)
+                .mapError(String::length)
+                .evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldEvaluateConstantSuccess() {
+        Result<String, String> result = LazyResult.of(Result.<Integer, String>success(21), ex -> "Error")
+                .map(i -> i * 2)
+                .map(i -> "Value: " + i)
+                .evaluate();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData()).isEqualTo("Value: 42");
+    }
+
+    @Test
+    public void shouldEvaluateConstantFailureWithoutRunningMappers() {
+        final boolean[] mapped = {false};
+
+        Result<Integer, Integer> result = LazyResult.of(Result.<Integer, String>failure("Not found"), ex -> "Error")
+                .map(i -> {
+                    mapped[0] = true;
+                    return i;
+                })
+                .mapError(String::length)
+                .evaluate();
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getError()).isEqualTo(9);
+        assertThat(mapped[0]).isFalse();
+    }
+
+    @Test
+    public void shouldRecoverFromConstantFailure() {
+        Result<Integer, String> result = LazyResult.of(Result.<Integer, String>failure("Not found"), ex -> "Error")
+                .recover(String::length)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(9);
+    }
+
+    @Test
+    public void shouldMapExceptionsAfterConstantSource() {
+        Result<Integer, String> result = LazyResult.of(Result.<Integer, String>success(0), ex -> "Mapped: " + ex.getMessage())
+                .map(i -> 10 / i)
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Mapped: / by zero");
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullConstantResult() {
+        assertThatThrownBy(() -> LazyResult.of(null, ex -> "Error"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("result cannot be null");
+    }
+
+    @Test
+    public void shouldEvaluateResultSupplierFailureWithoutMappingAnException() {
+        final boolean[] mapperCalled = {false};
+
+        Result<Integer, String> result = LazyResult.<Integer, String>fromResultSupplier(
+                () -> Result.failure("Amount must be positive"),
+                ex -> {
+                    mapperCalled[0] = true;
+                    return "Error";
+                }
+        ).map(i -> i * 2).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Amount must be positive");
+        assertThat(mapperCalled[0]).isFalse();
+    }
+
+    @Test
+    public void shouldChainOperationsAfterResultSupplier() {
+        Result<String, String> result = LazyResult.<Integer, String>fromResultSupplier(
+                () -> Result.success(21),
+                ex -> "Error"
+        ).map(i -> i * 2).map(i -> "Value: " + i).evaluate();
+
+        assertThat(result.getData()).isEqualTo("Value: 42");
+    }
+
+    @Test
+    public void shouldMapUnexpectedExceptionsFromResultSupplier() {
+        Result<Integer, String> result = LazyResult.<Integer, String>fromResultSupplier(
+                () -> {
+                    throw new IllegalStateException("Boom");
+                },
+                ex -> "Mapped: " + ex.getMessage()
+        ).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Mapped: Boom");
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullResultSupplier() {
+        assertThatThrownBy(() -> LazyResult.fromResultSupplier(null, ex -> "Error"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("supplier cannot be null");
+    }
+
+    @Test
+    public void shouldStartVoidChainFromTheUnitSuccess() {
+        Result<Void, String> unit = LazyResult.<Void, String>fromResultSupplier(Result::unit, ex -> "Error")
+                .evaluate();
+        Result<String, String> done = LazyResult.of(Result.<String>unit(), ex -> "Error")
+                .map(v -> "Done")
+                .evaluate();
+
+        assertThat(unit).isSameAs(Result.<String>unit());
+        assertThat(done.getData()).isEqualTo("Done");
+    }
+
+    @Test
+    public void shouldKeepTheUnitSuccessThroughStagesThatDoNotMapIt() {
+        List<Object> peeked = new ArrayList<>();
+        LazyResult<Void, String> unit = LazyResult.of(Result.<String>unit(), ex -> "E:" + ex);
+
+        Result<Void, Integer> mappedError = unit.mapError(String::length).evaluate();
+        Result<Void, String> peekedUnit = unit.peek(peeked::add).evaluate();
+        Result<Void, String> recovered = unit.recover(error -> null).evaluate();
+        Result<Void, String> flatMapped = unit.flatMapResult(v -> Result.<String>unit()).evaluate();
+
+        assertThat(mappedError).isSameAs(Result.<Integer>unit());
+        assertThat(peekedUnit).isSameAs(Result.<String>unit());
+        assertThat(peeked).isEqualTo(Collections.singletonList(null));
+        assertThat(recovered).isSameAs(Result.<String>unit());
+        assertThat(flatMapped).isSameAs(Result.<String>unit());
+    }
+
+    @Test
+    public void shouldFlatMapResultWithoutThrowing() {
+        LazyResult<Integer, String> validated = LazyResult.<Integer, String>create(() -> -5, ex -> "Error")
+                .flatMapResult(i -> i > 0 ? Result.success(i) : Result.failure("Must be positive"));
+        final boolean[] mapped = {false};
+
+        Result<Integer, String> result = validated
+                .map(i -> {
+                    mapped[0] = true;
+                    return i;
+                })
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Must be positive");
+        assertThat(mapped[0]).isFalse();
+    }
+
+    @Test
+    public void shouldContinueChainAfterSuccessfulFlatMapResult() {
+        Result<Integer, Integer> result = LazyResult.<Integer, String>create(() -> 5, ex -> "Error")
+                .flatMapResult(i -> Result.<Integer, String>success(i * 10))
+                .flatMap(i -> LazyResult.<Integer, String>of(Result.success(i + 1), ex -> "Inner error"))
+                .mapError(String::length)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(51);
+    }
+
+    @Test
+    public void shouldSkipFlatMapResultAfterFailureAndRecoverFromIt() {
+        Result<Integer, String> result = LazyResult.<Integer, String>create(() -> 1, ex -> "Error")
+                .flatMapResult(i -> Result.<Integer, String>failure("Rejected"))
+                .flatMapResult(i -> Result.success(i + 1))
+                .recover(String::length)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(8);
+    }
+
+    @Test
+    public void shouldMapExceptionsThrownByFlatMapResult() {
+        Result<Integer, String> result = LazyResult.<Integer, String>create(() -> 0, ex -> "Mapped: " + ex.getMessage())
+                .flatMapResult(i -> Result.success(10 / i))
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Mapped: / by zero");
+    }
+
+    @Test
+    public void shouldEvaluateMemoizedSupplierOnlyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> memoized = LazyResult.<Integer, String>create(
+                calls::incrementAndGet,
+                ex -> "Error"
+        ).memoize();
+
+        Result<Integer, String> first = memoized.evaluate();
+        Result<Integer, String> second = memoized.evaluate();
+
+        assertThat(first.getData()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRunOperationsChainedAfterMemoizeOnEveryEvaluation() {
+        AtomicInteger sourceCalls = new AtomicInteger();
+        AtomicInteger mapCalls = new AtomicInteger();
+        LazyResult<Integer, String> lazyResult = LazyResult.<Integer, String>create(
+                        sourceCalls::incrementAndGet,
+                        ex -> "Error"
+                )
+                .memoize()
+                .map(i -> i + mapCalls.incrementAndGet());
+
+        assertThat(lazyResult.evaluate().getData()).isEqualTo(2);
+        assertThat(lazyResult.evaluate().getData()).isEqualTo(3);
+        assertThat(sourceCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCacheFailuresByDefault() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> memoized = LazyResult.<Integer, String>create(
+                () -> {
+                    throw new RuntimeException("Failed " + calls.incrementAndGet());
+                },
+                ex -> ex.getMessage()
+        ).memoize();
+
+        assertThat(memoized.evaluate().getError()).isEqualTo("Failed 1");
+        assertThat(memoized.evaluate().getError()).isEqualTo("Failed 1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryFailuresWithRetryPolicy() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> memoized = LazyResult.<Integer, String>create(
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new RuntimeException("Failed");
+                    }
+                    return 42;
+                },
+                ex -> ex.getMessage()
+        ).memoize(MemoizationPolicy.RETRY_FAILURES);
+
+        assertThat(memoized.evaluate().getError()).isEqualTo("Failed");
+        assertThat(memoized.evaluate().getData()).isEqualTo(42);
+        assertThat(memoized.evaluate().getData()).isEqualTo(42);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldMapExceptionsAfterMemoizeWithOriginalErrorMappers() {
+        Result<Integer, String> result = LazyResult.<Integer, String>create(() -> 0, ex -> "Error: " + ex.getMessage())
+                .mapError(error -> "Wrapped " + error)
+                .memoize()
+                .map(i -> 10 / i)
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Wrapped Error: / by zero");
+    }
+
+    @Test
+    public void shouldEvaluateMemoizedSupplierOnceUnderConcurrentCallers() throws Exception {
+        int callers = 16;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazyResult<Integer, String> memoized = LazyResult.<Integer, String>create(
+                () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    return 42;
+                },
+                ex -> "Error"
+        ).memoize();
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Result<Integer, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(memoized::evaluate));
+            }
+            started.await();
+            release.countDown();
+
+            Result<Integer, String> first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Result<Integer, String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullMemoizationPolicy() {
+        LazyResult<Integer, String> lazyResult = LazyResult.create(() -> 42, ex -> "Error");
+
+        assertThatThrownBy(() -> lazyResult.memoize(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("policy cannot be null");
+    }
+
+    @Test
+    public void shouldEvaluateAsynchronouslyOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "async-worker"));
+        try {
+            Result<String, String> result = LazyResult.<String, String>create(
+                    () -> Thread.currentThread().getName(),
+                    ex -> "Error"
+            ).evaluateAsync(executor).get(5, TimeUnit.SECONDS);
+
+            assertThat(result.getData()).isEqualTo("async-worker");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCompleteAsyncEvaluationWithMappedFailure() throws Exception {
+        CompletableFuture<Result<Integer, String>> future = LazyResult.<Integer, String>create(
+                () -> {
+                    throw new IllegalStateException("Failed");
+                },
+                ex -> "Error: " + ex.getMessage()
+        ).evaluateAsync(Runnable::run);
+
+        assertThat(future.isCompletedExceptionally()).isFalse();
+        assertThat(future.get().getError()).isEqualTo("Error: Failed");
+    }
+
+    @Test
+    public void shouldMapRejectedAsyncEvaluationToFailure() throws Exception {
+        CompletableFuture<Result<Integer, String>> future = LazyResult.<Integer, String>create(() -> 42, ex -> "Rejected")
+                .mapError(error -> "Mapped: " + error)
+                .evaluateAsync(runnable -> {
+                    throw new RejectedExecutionException("Queue full");
+                });
+
+        assertThat(future.get().getError()).isEqualTo("Mapped: Rejected");
+    }
+
+    private static LazyResult<Integer, String> countDown(int n) {
+        if (n == 0) {
+            return LazyResult.create(() -> 0, ex -> "Error");
+        }
+        return LazyResult.<Integer, String>create(() -> n, ex -> "Error")
+                .flatMap(i -> countDown(i - 1).map(count -> count + 1));
+    }
 }
\ No newline at end of file
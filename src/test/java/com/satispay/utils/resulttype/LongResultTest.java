@@ -0,0 +1,53 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class LongResultTest {
+    // The behaviour shared by the primitive specializations is covered once, in IntResultTest
+
+    @Test
+    public void shouldKeepValuesOutsideTheIntRange() {
+        LongResult<String> result = LongResult.<String>success(Long.MAX_VALUE).map(i -> i - 1);
+
+        assertThat(result.getData()).isEqualTo(Long.MAX_VALUE - 1);
+        assertThat(result.toOptional()).isEqualTo(OptionalLong.of(Long.MAX_VALUE - 1));
+        assertThat(LongResult.<String>failure("Error").getData()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldBridgeToAndFromResult() {
+        Result<Long, String> boxed = LongResult.<String>success(5L).boxed();
+
+        assertThat(boxed.getData()).isEqualTo(5L);
+        assertThat(boxed.mapToLong(Long::longValue)).isEqualTo(LongResult.success(5L));
+        assertThat(Result.<Long, String>failure("Error").mapToLong(Long::longValue).getError())
+                .isEqualTo("Error");
+        assertThat(LongResult.<String>failure("Error").boxed()).isEqualTo(Result.failure("Error"));
+    }
+
+    @Test
+    public void shouldFlatMapToLongFromResult() {
+        LongResult<String> cents = Result.<String, String>success("1250")
+                .flatMapToLong(text -> LongResult.success(Long.parseLong(text)));
+        LongResult<String> rejected = Result.<String, String>success("-1")
+                .flatMapToLong(text -> LongResult.failure("Negative amount"));
+
+        assertThat(cents).isEqualTo(LongResult.success(1250L));
+        assertThat(rejected.getError()).isEqualTo("Negative amount");
+        assertThat(Result.<String, String>failure("Error").flatMapToLong(text -> LongResult.success(1L)).getError())
+                .isEqualTo("Error");
+    }
+
+    @Test
+    public void shouldMapToTheOtherSpecializations() {
+        LongResult<String> result = LongResult.success(5L);
+
+        assertThat(result.mapToInt(Math::toIntExact)).isEqualTo(IntResult.success(5));
+        assertThat(result.mapToDouble(i -> i / 2.0)).isEqualTo(DoubleResult.success(2.5));
+        assertThat(LongResult.<String>failure("Error").mapToInt(Math::toIntExact)).isEqualTo(IntResult.failure("Error"));
+    }
+}
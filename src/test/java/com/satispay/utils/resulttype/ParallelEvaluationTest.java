@@ -0,0 +1,234 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class ParallelEvaluationTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldZipTwoSuccesses() {
+        LazyResult<Integer, String> first = LazyResult.create(() -> 5, ex -> "Error");
+        LazyResult<String, String> second = LazyResult.create(() -> "apples", ex -> "Error");
+
+        Result<String, String> result = LazyResult.zip(first, second, (count, fruit) -> count + " " + fruit, executor)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo("5 apples");
+    }
+
+    @Test
+    public void shouldEvaluateInputsConcurrently() {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        LazyResult<Integer, String> first = LazyResult.create(() -> awaitBarrier(barrier, 1), ex -> "Not concurrent");
+        LazyResult<Integer, String> second = LazyResult.create(() -> awaitBarrier(barrier, 2), ex -> "Not concurrent");
+        LazyResult<Integer, String> third = LazyResult.create(() -> awaitBarrier(barrier, 3), ex -> "Not concurrent");
+
+        Result<Integer, String> result = LazyResult.zip(first, second, third, (a, b, c) -> a + b + c, executor)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldFailFastAndInterruptRemainingInputs() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LazyResult<Integer, String> slow = LazyResult.create(
+                () -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                    return 1;
+                },
+                ex -> "Slow failed"
+        );
+        LazyResult<Integer, String> failing = LazyResult.create(
+                () -> {
+                    throw new IllegalStateException("Wallet unavailable");
+                },
+                ex -> ex.getMessage()
+        );
+
+        Result<Integer, String> result = LazyResult.zip(slow, failing, Integer::sum, executor).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Wallet unavailable");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldZipFourInputs() {
+        LazyResult<Integer, String> one = LazyResult.create(() -> 1, ex -> "Error");
+
+        Result<Integer, String> result = LazyResult.zip(one, one, one, one, (a, b, c, d) -> a + b + c + d, executor)
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldMapRejectedInputToFailureOfFirstErrorMapper() {
+        LazyResult<Integer, String> first = LazyResult.create(() -> 1, ex -> "Rejected: " + ex.getMessage());
+        LazyResult<Integer, String> second = LazyResult.create(() -> 2, ex -> "Other");
+
+        Result<Integer, String> result = LazyResult.zip(first, second, Integer::sum, runnable -> {
+            throw new RejectedExecutionException("Queue full");
+        }).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Rejected: Queue full");
+    }
+
+    @Test
+    public void shouldMapCombinerExceptionToFailure() {
+        LazyResult<Integer, String> first = LazyResult.create(() -> 1, ex -> "Combiner: " + ex.getMessage());
+        LazyResult<Integer, String> second = LazyResult.create(() -> 0, ex -> "Other");
+
+        Result<Integer, String> result = LazyResult.zip(first, second, (a, b) -> a / b, executor).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Combiner: / by zero");
+    }
+
+    @Test
+    public void shouldCollectAllValuesInInputOrder() {
+        List<LazyResult<Integer, String>> inputs = Arrays.asList(
+                LazyResult.create(() -> 1, ex -> "Error"),
+                LazyResult.create(() -> 2, ex -> "Error"),
+                LazyResult.create(() -> 3, ex -> "Error")
+        );
+
+        Result<List<Integer>, String> result = LazyResult.allOf(inputs, executor).evaluate();
+
+        assertThat(result.getData()).isEqualTo(Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void shouldNotExceedParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        LazyResult<Integer, String> tracked = LazyResult.create(
+                () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                    return 1;
+                },
+                ex -> "Error"
+        );
+
+        Result<List<Integer>, String> result = LazyResult.allOf(Collections.nCopies(10, tracked), 2, executor)
+                .evaluate();
+
+        assertThat(result.getData().size()).isEqualTo(10);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldFailAllOfFastAndInterruptRemainingInputs() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LazyResult<Integer, String> slow = LazyResult.create(() -> blockUntilInterrupted(interrupted, 1), ex -> "Slow");
+        LazyResult<Integer, String> failing = LazyResult.create(
+                () -> {
+                    throw new IllegalStateException("Limit exceeded");
+                },
+                ex -> ex.getMessage()
+        );
+
+        Result<List<Integer>, String> result = LazyResult.allOf(Arrays.asList(slow, failing), executor).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Limit exceeded");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldReturnFirstSuccessAndInterruptSlowerInputs() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        LazyResult<String, String> slow = LazyResult.create(() -> blockUntilInterrupted(interrupted, "slow"), ex -> "Slow");
+        LazyResult<String, String> fast = LazyResult.create(() -> "fast", ex -> "Fast");
+
+        Result<String, String> result = LazyResult.anyOf(Arrays.asList(slow, fast), executor).evaluate();
+
+        assertThat(result.getData()).isEqualTo("fast");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldReturnFailureOfFirstInputWhenAllFail() {
+        LazyResult<String, String> first = LazyResult.create(
+                () -> {
+                    sleep(20);
+                    throw new IllegalStateException("Primary down");
+                },
+                ex -> ex.getMessage()
+        );
+        LazyResult<String, String> second = LazyResult.create(
+                () -> {
+                    throw new IllegalStateException("Backup down");
+                },
+                ex -> ex.getMessage()
+        );
+
+        Result<String, String> result = LazyResult.anyOf(Arrays.asList(first, second), executor).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Primary down");
+    }
+
+    @Test
+    public void shouldRejectEmptyInputsAndInvalidParallelism() {
+        List<LazyResult<Integer, String>> none = Collections.emptyList();
+        List<LazyResult<Integer, String>> one = Collections.singletonList(LazyResult.create(() -> 1, ex -> "Error"));
+
+        assertThatThrownBy(() -> LazyResult.allOf(none, executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("lazyResults cannot be empty");
+        assertThatThrownBy(() -> LazyResult.anyOf(one, 0, executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("parallelism must be positive");
+    }
+
+    private static <T> T blockUntilInterrupted(CountDownLatch interrupted, T value) {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException ex) {
+            interrupted.countDown();
+        }
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int awaitBarrier(CyclicBarrier barrier, int value) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return value;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
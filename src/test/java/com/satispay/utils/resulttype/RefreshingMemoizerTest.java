@@ -0,0 +1,142 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class RefreshingMemoizerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Deque<Runnable> refreshes = new ArrayDeque<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private RefreshPolicy policy(long ttlSeconds) {
+        return RefreshPolicy.expireAfter(Duration.ofSeconds(ttlSeconds))
+                .withExecutor(refreshes::add)
+                .withClock(clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+
+    private LazyResult<Integer, String> counting() {
+        return LazyResult.create(calls::incrementAndGet, ex -> ex.getMessage());
+    }
+
+    @Test
+    public void shouldServeCachedSuccessUntilExpiry() {
+        LazyResult<Integer, String> cached = counting().memoizeWithRefresh(policy(10));
+
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        advanceSeconds(9);
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReloadSynchronouslyAfterExpiry() {
+        LazyResult<Integer, String> cached = counting().memoizeWithRefresh(policy(10));
+
+        cached.evaluate();
+        advanceSeconds(10);
+
+        assertThat(cached.evaluate().getData()).isEqualTo(2);
+        assertThat(refreshes.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldServeStaleValueWhileSingleRefreshRuns() {
+        LazyResult<Integer, String> cached = counting()
+                .memoizeWithRefresh(policy(10).withRefreshAhead(Duration.ofSeconds(3)));
+
+        cached.evaluate();
+        advanceSeconds(8);
+
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        assertThat(refreshes.size()).isEqualTo(1);
+
+        refreshes.poll().run();
+
+        assertThat(cached.evaluate().getData()).isEqualTo(2);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldKeepStaleValueAndBackOffWhenRefreshFails() {
+        LazyResult<Integer, String> cached = LazyResult.<Integer, String>create(
+                () -> {
+                    if (calls.incrementAndGet() > 1) {
+                        throw new IllegalStateException("Unavailable");
+                    }
+                    return 1;
+                },
+                ex -> ex.getMessage()
+        ).memoizeWithRefresh(policy(10)
+                .withRefreshAhead(Duration.ofSeconds(5))
+                .withFailureBackoff(Duration.ofSeconds(2), Duration.ofSeconds(8)));
+
+        cached.evaluate();
+        advanceSeconds(5);
+        cached.evaluate();
+        refreshes.poll().run();
+
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        advanceSeconds(1);
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        assertThat(refreshes.isEmpty()).isTrue();
+
+        advanceSeconds(1);
+        assertThat(cached.evaluate().getData()).isEqualTo(1);
+        assertThat(refreshes.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCacheFailureForBackoffWhenNothingToFallBackOn() {
+        LazyResult<Integer, String> cached = LazyResult.<Integer, String>create(
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("Unavailable");
+                    }
+                    return 42;
+                },
+                ex -> ex.getMessage()
+        ).memoizeWithRefresh(policy(10).withFailureBackoff(Duration.ofSeconds(2), Duration.ofSeconds(8)));
+
+        assertThat(cached.evaluate().getError()).isEqualTo("Unavailable");
+        advanceSeconds(1);
+        assertThat(cached.evaluate().getError()).isEqualTo("Unavailable");
+        assertThat(calls.get()).isEqualTo(1);
+
+        advanceSeconds(1);
+        assertThat(cached.evaluate().getData()).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldDoubleBackoffUpToMaximum() {
+        RefreshPolicy policy = policy(60).withFailureBackoff(Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        assertThat(policy.backoffNanos(1)).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(policy.backoffNanos(3)).isEqualTo(Duration.ofSeconds(4).toNanos());
+        assertThat(policy.backoffNanos(100)).isEqualTo(Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    public void shouldRejectInvalidPolicies() {
+        assertThatThrownBy(() -> RefreshPolicy.expireAfter(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("timeToLive must be positive");
+        assertThatThrownBy(() -> policy(10).withRefreshAhead(Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> policy(10).withFailureBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
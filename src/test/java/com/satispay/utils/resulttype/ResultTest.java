@@ -2,14 +2,35 @@ package com.satispay.utils.resulttype;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
 
 public class ResultTest {
 
+    private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+    private static final Function<Integer, Result<Integer, String>> INCREMENT_RESULT = i -> Result.success(i + 1);
+    private static final BiFunction<Integer, Integer, Integer> SUM = Integer::sum;
+
     @Test
     public void shouldCreateSuccessResult() {
         Result<Integer, String> result = Result.success(42);
@@ -259,6 +280,112 @@ public class ResultTest {
         assertThat(combined.getError()).isEqualTo("Error 2");
     }
 
+    @Test
+    public void shouldReuseFailureInstanceWhenMapping() {
+        Result<Integer, String> result = Result.failure("Error");
+
+        assertThat(result.map(i -> "Number: " + i)).isSameAs(result);
+        assertThat(result.flatMap(i -> Result.success("Value: " + i))).isSameAs(result);
+    }
+
+    @Test
+    public void shouldReuseSuccessInstanceWhenMappingError() {
+        Result<Integer, String> result = Result.success(42);
+
+        assertThat(result.mapError(String::length)).isSameAs(result);
+    }
+
+    @Test
+    public void shouldReuseFailureInstanceWhenCombining() {
+        Result<Integer, String> r1 = Result.success(5);
+        Result<Integer, String> r2 = Result.failure("Error 2");
+
+        assertThat(Result.combine(r1, r2, (a, b) -> a + b)).isSameAs(r2);
+        assertThat(Result.combine(r2, r1, (a, b) -> a + b)).isSameAs(r2);
+    }
+
+    @Test
+    public void shouldCombineThreeResults() {
+        Result<String, String> combined = Result.combine(
+                Result.success(1),
+                Result.success("EUR"),
+                Result.success(true),
+                (amount, currency, urgent) -> amount + " " + currency + (urgent ? "!" : "")
+        );
+
+        assertThat(combined.getData()).isEqualTo("1 EUR!");
+    }
+
+    @Test
+    public void shouldCombineEightResults() {
+        Result<Integer, String> combined = Result.combine(
+                Result.success(1), Result.success(2), Result.success(3), Result.success(4),
+                Result.success(5), Result.success(6), Result.success(7), Result.success(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h
+        );
+
+        assertThat(combined.getData()).isEqualTo(36);
+    }
+
+    @Test
+    public void shouldReturnFirstFailureWithoutCallingCombiner() {
+        Result<Integer, String> second = Result.failure("Second");
+        Result<Integer, String> fourth = Result.failure("Fourth");
+        AtomicBoolean called = new AtomicBoolean();
+
+        Result<Integer, String> combined = Result.combine(
+                Result.success(1), second, Result.success(3), fourth, Result.success(5),
+                (a, b, c, d, e) -> {
+                    called.set(true);
+                    return a + b + c + d + e;
+                }
+        );
+
+        assertThat(combined).isSameAs(second);
+        assertThat(called.get()).isFalse();
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullInputOfNaryCombine() {
+        assertThatThrownBy(() -> Result.combine(
+                Result.success(1), Result.success(2), Result.success(3), Result.success(4),
+                Result.success(5), null, (a, b, c, d, e, f) -> 0))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("r6 cannot be null");
+    }
+
+    @Test
+    public void shouldCombineAllResultsInOrder() {
+        List<Result<Integer, String>> results = Arrays.asList(
+                Result.success(3), Result.success(1), Result.success(2));
+
+        Result<List<Integer>, String> combined = Result.combineAll(results);
+
+        assertThat(combined.getData()).isEqualTo(Arrays.asList(3, 1, 2));
+        assertThatThrownBy(() -> combined.getData().add(4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldStopCombiningAllAtFirstFailure() {
+        Result<Integer, String> failure = Result.failure("Second");
+        AtomicBoolean iteratedPastFailure = new AtomicBoolean();
+        Iterable<Result<Integer, String>> results = () -> Arrays.asList(
+                Result.<Integer, String>success(1), failure, Result.<Integer, String>success(3)
+        ).stream().peek(result -> iteratedPastFailure.set(result.getData() != null && result.getData() == 3)).iterator();
+
+        Result<List<Integer>, String> combined = Result.combineAll(results);
+
+        assertThat(combined).isSameAs(failure);
+        assertThat(iteratedPastFailure.get()).isFalse();
+    }
+
+    @Test
+    public void shouldCombineNoResultsIntoEmptyList() {
+        Result<List<Integer>, String> combined = Result.combineAll(Collections.<Result<Integer, String>>emptyList());
+
+        assertThat(combined.getData()).isEqualTo(Collections.emptyList());
+    }
+
     @Test
     public void shouldHaveCorrectToString() {
         Result<Integer, String> success = Result.success(42);
@@ -287,4 +414,181 @@ public class ResultTest {
 
         assertThat(r1.hashCode()).isEqualTo(r2.hashCode());
     }
+
+    @Test
+    public void shouldNotEqualFailureWithSameValueAsSuccess() {
+        Result<String, String> success = Result.success("Value");
+        Result<String, String> failure = Result.failure("Value");
+
+        assertThat(success.equals(failure)).isFalse();
+        assertThat(success.hashCode()).isNotEqualTo(failure.hashCode());
+    }
+
+    @Test
+    public void shouldExposeStatesAsSuccessAndFailureSubclasses() {
+        Result<Integer, String> success = Result.success(42);
+        Result<Integer, String> failure = Result.failure("Error");
+
+        assertThat(success).isInstanceOf(Result.Success.class);
+        assertThat(failure).isInstanceOf(Result.Failure.class);
+        assertThat(((Result.Success<Integer, String>) success).value()).isEqualTo(42);
+        assertThat(((Result.Failure<Integer, String>) failure).error()).isEqualTo("Error");
+    }
+
+    @Test
+    public void shouldShareTheUnitSuccess() {
+        Result<Void, String> unit = Result.unit();
+
+        assertThat(unit.isSuccess()).isTrue();
+        assertThat(unit.getData()).isNull();
+        assertThat(unit.toOptional()).isEqualTo(Optional.empty());
+        assertThat(unit).isSameAs(Result.<Integer>unit());
+        assertThat(unit.map(v -> "Done").getData()).isEqualTo("Done");
+        assertThat(unit.hashCode()).isEqualTo(Result.<Integer>unit().hashCode());
+    }
+
+    @Test
+    public void shouldShareBooleanSuccesses() {
+        Result<Boolean, String> accepted = Result.success(true);
+
+        assertThat(accepted).isSameAs(Result.<Boolean, Integer>success(Boolean.TRUE));
+        assertThat(Result.<Boolean, String>success(false)).isSameAs(Result.<Boolean, String>success(false));
+        assertThat(accepted).isNotSameAs(Result.<Boolean, String>success(false));
+        assertThat(accepted.getData()).isTrue();
+    }
+
+    @Test
+    public void shouldSharePreallocatedFailuresForEnumErrors() {
+        Result<Integer, ErrorCode> notFound = Result.failure(ErrorCode.NOT_FOUND);
+
+        assertThat(notFound).isSameAs(Result.<String, ErrorCode>failure(ErrorCode.NOT_FOUND));
+        assertThat(notFound).isNotSameAs(Result.<Integer, ErrorCode>failure(ErrorCode.INVALID_AMOUNT));
+        assertThat(notFound.getError()).isEqualTo(ErrorCode.NOT_FOUND);
+        assertThat(Result.<Integer, ErrorCode>failure(ErrorCode.EXPIRED).getError()).isEqualTo(ErrorCode.EXPIRED);
+        assertThat(Result.<Integer, ErrorCode>failure(ErrorCode.EXPIRED))
+                .isSameAs(Result.<Integer, ErrorCode>failure(ErrorCode.EXPIRED));
+    }
+
+    @Test
+    public void shouldHoldASingleReferencePerInstance() {
+        // Stands in for a JOL footprint check: one reference after the header is 16 bytes with
+        // compressed oops, 24 bytes without, where the former data and error fields took 24 and 32
+        assertThat(instanceFieldCount(Result.success(42).getClass())).isEqualTo(1);
+        assertThat(instanceFieldCount(Result.failure("Error").getClass())).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSurviveSerialization() throws Exception {
+        Result<Integer, String> success = Result.success(42);
+        Result<Integer, String> failure = Result.failure("Error");
+
+        assertThat(roundTrip(success)).isEqualTo(success);
+        assertThat(roundTrip(failure)).isEqualTo(failure);
+        assertThat(((Result<?, ?>) roundTrip(failure)).isSuccess()).isFalse();
+    }
+
+    @Test
+    public void shouldNotAllocateAlongTenStageFailureChain() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+        Result<Integer, String> failure = Result.failure("Error");
+        Result<Integer, String> success = Result.success(1);
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100_000;
+
+        Result<Integer, String> last = tenStageChain(failure, success);
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            last = tenStageChain(failure, success);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(last).isSameAs(failure);
+        // Less than a byte per chain, where a single Result would take 16
+        assertThat(allocated).isLessThan(iterations);
+    }
+
+    @Test
+    public void shouldDeserializeSharedInstancesToTheSharedInstances() throws Exception {
+        assertThat(roundTrip(Result.unit())).isSameAs(Result.unit());
+        assertThat(roundTrip(Result.success(true))).isSameAs(Result.success(true));
+        assertThat(roundTrip(Result.success(false))).isSameAs(Result.success(false));
+        assertThat(roundTrip(Result.failure(ErrorCode.NOT_FOUND))).isSameAs(Result.failure(ErrorCode.NOT_FOUND));
+        assertThat(roundTrip(Result.failure(ErrorCode.EXPIRED))).isSameAs(Result.failure(ErrorCode.EXPIRED));
+    }
+
+    @Test
+    public void shouldKeepJava17LayerInSyncWithBaseClass() throws Exception {
+        // The multi-release JAR replaces the whole class on Java 17+: the copies may differ only
+        // in the class Javadoc and in sealing the class
+        String base = withoutClassJavadoc(source("src/main/java"));
+        String java17 = withoutClassJavadoc(source("src/main/java17"))
+                .replace("public abstract sealed class Result<T, E> implements Serializable permits Result.Success, Result.Failure {",
+                        "public abstract class Result<T, E> implements Serializable {");
+
+        assertThat(java17).isEqualTo(base);
+    }
+
+    private static int instanceFieldCount(Class<?> type) {
+        int count = 0;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The chain of ResultBenchmark.tenStageFailureChain.
+     */
+    private static Result<Integer, String> tenStageChain(Result<Integer, String> start, Result<Integer, String> other) {
+        Result<Integer, String> result = start
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT);
+        result = Result.combine(result, other, SUM);
+        return result
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT)
+                .map(INCREMENT)
+                .flatMap(INCREMENT_RESULT);
+    }
+
+    private static String source(String root) throws Exception {
+        Path path = Paths.get(root, "com", "satispay", "utils", "resulttype", "Result.java");
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    private static String withoutClassJavadoc(String source) {
+        int declaration = source.indexOf("public abstract ");
+        return source.substring(0, source.lastIndexOf("/**", declaration)) + source.substring(declaration);
+    }
+
+    private static Object roundTrip(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    private enum ErrorCode {
+        NOT_FOUND,
+        INVALID_AMOUNT,
+        EXPIRED {
+            @Override
+            public String toString() {
+                return "Expired";
+            }
+        }
+    }
 }
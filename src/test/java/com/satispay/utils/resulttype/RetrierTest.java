@@ -0,0 +1,163 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class RetrierTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRunSupplierAgainUntilItSucceeds() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(2, calls);
+
+        Result<Integer, String> result = flaky.retry(noBackoff(3)).evaluate();
+
+        assertThat(result.getData()).isEqualTo(3);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnLastFailureWhenAttemptsAreExhausted() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(5, calls);
+
+        Result<Integer, String> result = flaky.retry(noBackoff(3)).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Attempt 3 failed");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotRetryErrorsRejectedByPredicate() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(5, calls);
+
+        Result<Integer, String> result = flaky
+                .retry(RetryPolicy.<String>maxAttempts(3)
+                        .withBackoff(Duration.ZERO, Duration.ZERO)
+                        .retryIf(error -> !error.startsWith("Attempt 2")))
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Attempt 2 failed");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldStopRetryingWhenBudgetIsSpent() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryBudget budget = RetryBudget.create(0, 0, Duration.ofSeconds(10));
+        LazyResult<Integer, String> flaky = failingTimes(5, calls);
+
+        Result<Integer, String> result = flaky.retry(noBackoff(3).withBudget(budget)).evaluate();
+
+        assertThat(result.getError()).isEqualTo("Attempt 1 failed");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDoubleBackoffUpToMaximum() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(500))
+                .withJitter(0);
+
+        assertThat(policy.backoffNanos(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(policy.backoffNanos(2)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(policy.backoffNanos(3)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(400));
+        assertThat(policy.backoffNanos(4)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void shouldShortenBackoffByJitter() {
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofSeconds(1))
+                .withJitter(0.5)
+                .withRandom(() -> 0.5);
+
+        assertThat(policy.backoffNanos(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(75));
+    }
+
+    @Test
+    public void shouldStopRetryingWhenInterrupted() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(5, calls);
+
+        Thread.currentThread().interrupt();
+        Result<Integer, String> result = flaky
+                .retry(RetryPolicy.<String>maxAttempts(3).withBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10)))
+                .evaluate();
+
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(result.getError()).isEqualTo("Attempt 1 failed");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetryAsynchronously() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(2, calls);
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(3)
+                .withBackoff(Duration.ofMillis(20), Duration.ofMillis(20));
+
+        Result<Integer, String> result = flaky.retryAsync(policy, executor).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getData()).isEqualTo(3);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotAttemptAgainAfterAsyncRetryIsCancelled() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> flaky = failingTimes(5, calls);
+        RetryPolicy<String> policy = RetryPolicy.<String>maxAttempts(5)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(100))
+                .withJitter(0);
+
+        CompletableFuture<Result<Integer, String>> future = flaky.retryAsync(policy, executor);
+        Thread.sleep(50);
+        future.cancel(false);
+        Thread.sleep(200);
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveMaxAttempts() {
+        assertThatThrownBy(() -> RetryPolicy.maxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxAttempts must be positive");
+    }
+
+    private static RetryPolicy<String> noBackoff(int maxAttempts) {
+        return RetryPolicy.<String>maxAttempts(maxAttempts).withBackoff(Duration.ZERO, Duration.ZERO);
+    }
+
+    private static LazyResult<Integer, String> failingTimes(int failures, AtomicInteger calls) {
+        return LazyResult.create(
+                () -> {
+                    int call = calls.incrementAndGet();
+                    if (call <= failures) {
+                        throw new IllegalStateException("Attempt " + call + " failed");
+                    }
+                    return call;
+                },
+                Exception::getMessage
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void shouldAllowRetriesUpToRatioOfCalls() {
+        RetryBudget budget = RetryBudget.create(0.1, 0, Duration.ofSeconds(10), clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordCall();
+        }
+
+        assertThat(acquired(budget, 20)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldAllowReserveWithoutCalls() {
+        RetryBudget budget = RetryBudget.create(0.1, 2, Duration.ofSeconds(10), clock::get);
+
+        assertThat(acquired(budget, 50)).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldForgetCallsAndRetriesOlderThanWindow() {
+        RetryBudget budget = RetryBudget.create(0.5, 0, Duration.ofSeconds(10), clock::get);
+        for (int i = 0; i < 10; i++) {
+            budget.recordCall();
+        }
+        assertThat(acquired(budget, 10)).isEqualTo(5);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(acquired(budget, 10)).isEqualTo(0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        budget.recordCall();
+        budget.recordCall();
+        assertThat(acquired(budget, 10)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectRatioOutOfRange() {
+        assertThatThrownBy(() -> RetryBudget.create(1.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("retryRatio must be between 0 and 1");
+    }
+
+    private static int acquired(RetryBudget budget, int attempts) {
+        int acquired = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (budget.tryAcquireRetry()) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+}
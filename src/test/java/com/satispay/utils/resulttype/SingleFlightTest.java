@@ -0,0 +1,135 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SingleFlight<String, Integer, String> singleFlight = new SingleFlight<>();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldShareOneEvaluationBetweenConcurrentCallersWithSameKey() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LazyResult<Integer, String> slow = LazyResult.create(
+                () -> {
+                    await(release);
+                    return calls.incrementAndGet();
+                },
+                ex -> "Error"
+        );
+        List<Future<Result<Integer, String>>> callers = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            callers.add(executor.submit(() -> singleFlight.evaluate("merchant-1", slow)));
+        }
+        while (singleFlight.inFlight() == 0) {
+            Thread.yield();
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        Result<Integer, String> first = callers.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Result<Integer, String>> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldEvaluateDifferentKeysIndependently() {
+        Result<Integer, String> first = singleFlight.evaluate("merchant-1", LazyResult.create(() -> 1, ex -> "Error"));
+        Result<Integer, String> second = singleFlight.evaluate("merchant-2", LazyResult.create(() -> 2, ex -> "Error"));
+
+        assertThat(first.getData()).isEqualTo(1);
+        assertThat(second.getData()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEvaluateAgainOnceInFlightEvaluationCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer, String> counting = LazyResult.create(calls::incrementAndGet, ex -> "Error");
+
+        singleFlight.evaluate("merchant-1", counting);
+        Result<Integer, String> result = singleFlight.evaluate("merchant-1", counting);
+
+        assertThat(result.getData()).isEqualTo(2);
+        assertThat(singleFlight.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReleaseKeyWhenEvaluationThrows() {
+        LazyResult<Integer, String> throwing = LazyResult.create(
+                () -> {
+                    throw new IllegalStateException("Boom");
+                },
+                ex -> {
+                    throw new IllegalArgumentException("Mapper failed");
+                }
+        );
+
+        assertThatThrownBy(() -> singleFlight.evaluate("merchant-1", throwing))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.inFlight()).isEqualTo(0);
+        assertThat(singleFlight.evaluate("merchant-1", LazyResult.create(() -> 1, ex -> "Error")).getData())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotFailSharedEvaluationForWaiterWithoutDeadline() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazyResult<Integer, String> shared = LazyResult.<Integer, String>create(
+                () -> {
+                    started.countDown();
+                    await(release);
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Interrupted");
+                    }
+                    return 42;
+                },
+                Exception::getMessage
+        ).flatMap(i -> LazyResult.create(() -> i, ex -> "Error"));
+
+        Future<Result<Integer, String>> withDeadline = executor.submit(() ->
+                LazyResult.<String, String>create(() -> "merchant-1", ex -> "Error")
+                        .flatMap(key -> LazyResult.of(singleFlight.evaluate(key, shared), ex -> "Error"))
+                        .withTimeout(Duration.ofMillis(50), () -> "Timed out")
+                        .evaluate());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Result<Integer, String>> withoutDeadline = executor.submit(() -> singleFlight.evaluate("merchant-1", shared));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(withDeadline.get(5, TimeUnit.SECONDS).getError()).isEqualTo("Timed out");
+        assertThat(withoutDeadline.get(5, TimeUnit.SECONDS).getData()).isEqualTo(42);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class TimeoutGuardTest {
+
+    @Test
+    public void shouldReturnResultCompletedWithinTimeout() {
+        Result<Integer, String> result = LazyResult.create(() -> 42, ex -> "Error")
+                .withTimeout(Duration.ofSeconds(5), () -> "Timed out")
+                .evaluate();
+
+        assertThat(result.getData()).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldFailWithTimeoutErrorAndInterruptBlockedEvaluation() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        LazyResult<Integer, String> blocked = LazyResult.create(
+                () -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException ex) {
+                        interrupted.set(true);
+                        Thread.currentThread().interrupt();
+                    }
+                    return 1;
+                },
+                ex -> "Error"
+        );
+
+        Result<Integer, String> result = blocked.withTimeout(Duration.ofMillis(50), () -> "Timed out").evaluate();
+
+        assertThat(result.getError()).isEqualTo("Timed out");
+        assertThat(interrupted.get()).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    public void shouldFailWhenEvaluationOverrunsWithoutHonouringInterrupt() {
+        LazyResult<Integer, String> busy = LazyResult.create(() -> spin(TimeUnit.MILLISECONDS.toNanos(80)), ex -> "Error");
+
+        Result<Integer, String> result = busy.withTimeout(Duration.ofMillis(20), () -> "Timed out").evaluate();
+
+        assertThat(result.getError()).isEqualTo("Timed out");
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    public void shouldKeepInterruptPresentBeforeEvaluation() {
+        LazyResult<Integer, String> busy = LazyResult.create(() -> spin(TimeUnit.MILLISECONDS.toNanos(80)), ex -> "Error");
+
+        Thread.currentThread().interrupt();
+        Result<Integer, String> timedOut = busy.withTimeout(Duration.ofMillis(20), () -> "Timed out").evaluate();
+        boolean interruptedAfterTimeout = Thread.interrupted();
+        Thread.currentThread().interrupt();
+        Result<Integer, String> completed = LazyResult.create(() -> 42, ex -> "Error")
+                .withTimeout(Duration.ofSeconds(5), () -> "Timed out")
+                .evaluate();
+        boolean interruptedAfterSuccess = Thread.interrupted();
+
+        assertThat(timedOut.getError()).isEqualTo("Timed out");
+        assertThat(interruptedAfterTimeout).isTrue();
+        assertThat(completed.getData()).isEqualTo(42);
+        assertThat(interruptedAfterSuccess).isTrue();
+    }
+
+    @Test
+    public void shouldShareRemainingBudgetWithNestedTimeout() {
+        long start = System.nanoTime();
+        LazyResult<Integer, String> slowInner = LazyResult.create(() -> sleepUntilInterrupted(5_000), ex -> "Inner error");
+
+        Result<Integer, String> result = LazyResult.create(() -> 1, ex -> "Error")
+                .flatMap(i -> slowInner.withTimeout(Duration.ofSeconds(10), () -> "Inner timed out"))
+                .withTimeout(Duration.ofMillis(50), () -> "Outer timed out")
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Outer timed out");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void shouldNotStartFlatMapStagesAfterDeadline() {
+        AtomicInteger started = new AtomicInteger();
+
+        Result<Integer, String> result = LazyResult.create(() -> spin(TimeUnit.MILLISECONDS.toNanos(50)), ex -> "Error")
+                .flatMap(i -> {
+                    started.incrementAndGet();
+                    return LazyResult.create(() -> i + 1, ex -> "Error");
+                })
+                .withTimeout(Duration.ofMillis(10), () -> "Timed out")
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Timed out");
+        assertThat(started.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotCallErrorMapperOrRecoverWhenDeadlineSkipsStage() {
+        AtomicBoolean mapped = new AtomicBoolean();
+        AtomicBoolean recovered = new AtomicBoolean();
+
+        Result<Integer, String> result = LazyResult.<Integer, String>create(
+                        () -> spin(TimeUnit.MILLISECONDS.toNanos(50)),
+                        ex -> {
+                            mapped.set(true);
+                            return "Error";
+                        })
+                .flatMap(i -> LazyResult.create(() -> i + 1, ex -> "Error"))
+                .mapError(error -> {
+                    mapped.set(true);
+                    return error;
+                })
+                .recover(error -> {
+                    recovered.set(true);
+                    return 0;
+                })
+                .withTimeout(Duration.ofMillis(10), () -> "Timed out")
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Timed out");
+        assertThat(mapped.get()).isFalse();
+        assertThat(recovered.get()).isFalse();
+    }
+
+    @Test
+    public void shouldMapExceptionsAfterTimeoutWithOriginalErrorMapper() {
+        Result<Integer, String> result = LazyResult.create(() -> 1, ex -> "Mapped: " + ex.getMessage())
+                .withTimeout(Duration.ofSeconds(5), () -> "Timed out")
+                .<Integer>map(i -> {
+                    throw new ArithmeticException("/ by zero");
+                })
+                .evaluate();
+
+        assertThat(result.getError()).isEqualTo("Mapped: / by zero");
+    }
+
+    @Test
+    public void shouldNotFailMemoizedEvaluationForCallersWithoutDeadline() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        LazyResult<Integer, String> memoized = LazyResult.<Integer, String>create(
+                () -> {
+                    started.countDown();
+                    sleepUntilInterrupted(200);
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Interrupted");
+                    }
+                    return 42;
+                },
+                Exception::getMessage
+        ).memoize(MemoizationPolicy.CACHE_FAILURES);
+
+        CompletableFuture<Result<Integer, String>> withDeadline = CompletableFuture.supplyAsync(
+                () -> memoized.withTimeout(Duration.ofMillis(50), () -> "Timed out").evaluate());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Result<Integer, String> withoutDeadline = memoized.evaluate();
+
+        assertThat(withDeadline.get(5, TimeUnit.SECONDS).getError()).isEqualTo("Timed out");
+        assertThat(withoutDeadline.getData()).isEqualTo(42);
+        assertThat(memoized.evaluate().getData()).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveTimeout() {
+        LazyResult<Integer, String> lazyResult = LazyResult.create(() -> 1, ex -> "Error");
+
+        assertThatThrownBy(() -> lazyResult.withTimeout(Duration.ZERO, () -> "Timed out"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("timeout must be positive");
+    }
+
+    private static int spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        int spins = 0;
+        while (System.nanoTime() - end < 0) {
+            spins++;
+        }
+        return spins;
+    }
+
+    private static int sleepUntilInterrupted(long millis) {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        while (System.nanoTime() - end < 0) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,169 @@
+package com.satispay.utils.resulttype;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+public class ValidationTest {
+
+    @Test
+    public void shouldBuildValueWhenEveryCheckPasses() {
+        Validation<String> validation = Validation.create();
+
+        Integer amount = validation.check(Result.success(100));
+        String currency = validation.check(Result.success("EUR"));
+        validation.check(amount > 0, "amount must be positive");
+        Result<String, ValidationErrors<String>> result = validation.complete(() -> amount + " " + currency);
+
+        assertThat(validation.isValid()).isTrue();
+        assertThat(result.getData()).isEqualTo("100 EUR");
+    }
+
+    @Test
+    public void shouldCollectEveryErrorInOrderWithoutBuildingValue() {
+        Validation<String> validation = Validation.create();
+        final boolean[] built = {false};
+
+        Integer amount = validation.check(Result.<Integer, String>failure("amount is missing"));
+        String currency = validation.check(Result.success("EUR"));
+        validation.check(false, "merchant is required");
+        validation.check(Result.<Integer, String>failure("expiry is malformed"));
+        Result<String, ValidationErrors<String>> result = validation.complete(() -> {
+            built[0] = true;
+            return amount + " " + currency;
+        });
+
+        assertThat(amount).isNull();
+        assertThat(validation.isValid()).isFalse();
+        assertThat(built[0]).isFalse();
+        assertThat(result.getError().size()).isEqualTo(3);
+        assertThat(result.getError().first()).isEqualTo("amount is missing");
+        assertThat(result.getError().toList())
+                .isEqualTo(Arrays.asList("amount is missing", "merchant is required", "expiry is malformed"));
+    }
+
+    @Test
+    public void shouldCollectErrorsBeyondInitialCapacity() {
+        Validation<Integer> validation = Validation.create();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            validation.check(Result.<String, Integer>failure(i));
+            expected.add(i);
+        }
+        ValidationErrors<Integer> errors = validation.complete(() -> "Unused").getError();
+
+        assertThat(errors.size()).isEqualTo(20);
+        assertThat(errors.get(19)).isEqualTo(19);
+        assertThat(errors.toList()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldKeepCompletedErrorsUnchangedByLaterChecks() {
+        Validation<String> validation = Validation.create();
+        validation.check(false, "first");
+        validation.check(false, "second");
+
+        ValidationErrors<String> errors = validation.complete(() -> "Unused").getError();
+        validation.check(false, "third");
+
+        assertThat(errors.toList()).isEqualTo(Arrays.asList("first", "second"));
+    }
+
+    @Test
+    public void shouldExposeErrorsAsReadOnlyIterableList() {
+        Validation<String> validation = Validation.create();
+        validation.check(false, "only");
+
+        ValidationErrors<String> errors = validation.complete(() -> "Unused").getError();
+        List<String> iterated = new ArrayList<>();
+        for (String error : errors) {
+            iterated.add(error);
+        }
+
+        assertThat(iterated).isEqualTo(Collections.singletonList("only"));
+        assertThat(errors.toString()).isEqualTo("[only]");
+        assertThatThrownBy(() -> errors.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> errors.toList().add("more")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldCompareErrorsByContent() {
+        Validation<String> first = Validation.create();
+        first.check(false, "a").check(false, "b");
+        Validation<String> second = Validation.create();
+        second.check(false, "a").check(false, "b");
+
+        ValidationErrors<String> firstErrors = first.complete(() -> "Unused").getError();
+        ValidationErrors<String> secondErrors = second.complete(() -> "Unused").getError();
+
+        assertThat(firstErrors).isEqualTo(secondErrors);
+        assertThat(firstErrors.hashCode()).isEqualTo(secondErrors.hashCode());
+    }
+
+    @Test
+    public void shouldCombineValidInputs() {
+        Result<String, ValidationErrors<String>> pair = Validation.combine(
+                Result.<Integer, String>success(100), Result.<String, String>success("EUR"), (a, c) -> a + " " + c);
+        Result<Integer, ValidationErrors<String>> sum = Validation.combine(
+                Result.<Integer, String>success(1), Result.<Integer, String>success(2),
+                Result.<Integer, String>success(3), Result.<Integer, String>success(4),
+                Result.<Integer, String>success(5), Result.<Integer, String>success(6),
+                Result.<Integer, String>success(7), Result.<Integer, String>success(8),
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertThat(pair.getData()).isEqualTo("100 EUR");
+        assertThat(sum.getData()).isEqualTo(36);
+    }
+
+    @Test
+    public void shouldCombineErrorsOfEveryInvalidInputInOrderWithoutCallingCombiner() {
+        final boolean[] combined = {false};
+
+        Result<String, ValidationErrors<String>> result = Validation.combine(
+                Result.<Integer, String>failure("amount is missing"),
+                Result.<String, String>success("EUR"),
+                Result.<String, String>failure("merchant is required"),
+                Result.<String, String>failure("expiry is malformed"),
+                (amount, currency, merchant, expiry) -> {
+                    combined[0] = true;
+                    return "Unused";
+                });
+
+        assertThat(combined[0]).isFalse();
+        assertThat(result.getError().toList())
+                .isEqualTo(Arrays.asList("amount is missing", "merchant is required", "expiry is malformed"));
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullCombineArguments() {
+        assertThatThrownBy(() -> Validation.combine(null, Result.<Integer, String>success(1), (a, b) -> a))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("r1 cannot be null");
+        assertThatThrownBy(() -> Validation.<Integer, Integer, String, Integer>combine(
+                Result.success(1), Result.success(2), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("combiner cannot be null");
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullArguments() {
+        Validation<String> validation = Validation.create();
+
+        assertThatThrownBy(() -> validation.check(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("result cannot be null");
+        assertThatThrownBy(() -> validation.check(false, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("error cannot be null");
+        assertThatThrownBy(() -> validation.complete(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("supplier cannot be null");
+    }
+}